@@ -0,0 +1,133 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link BenchmarkComparison} compares two JMH JSON result files, ex: of two
+ * releases, and prints the change of each benchmark score.<br>
+ * <br>
+ * A change is flagged as a regression or an improvement only if the score
+ * intervals of both runs don't overlap, so noise within the error margins is
+ * not reported, nor are runs too short to have intervals. Throughput scores
+ * are better when higher, other modes when lower.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.github.wnameless.spring.bulkapi.BenchmarkComparison \
+ *     jmh-result-0.7.0.json jmh-result-0.7.1.json
+ * </pre>
+ *
+ */
+public final class BenchmarkComparison {
+
+  private BenchmarkComparison() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println(
+          "Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+      System.exit(2);
+    }
+
+    Map<String, JsonNode> baseline = read(new File(args[0]));
+    Map<String, JsonNode> candidate = read(new File(args[1]));
+
+    int regressions = 0;
+    for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+      JsonNode before = baseline.get(entry.getKey());
+      JsonNode after = entry.getValue();
+      JsonNode metric = after.path("primaryMetric");
+      if (before == null) {
+        System.out.printf("%-90s %14s -> %14.3f %s  NEW%n", entry.getKey(), "",
+            metric.path("score").asDouble(),
+            metric.path("scoreUnit").asText());
+        continue;
+      }
+
+      String verdict = verdict(before, after);
+      if ("REGRESSION".equals(verdict)) regressions++;
+      double oldScore = before.path("primaryMetric").path("score").asDouble();
+      double newScore = metric.path("score").asDouble();
+      System.out.printf("%-90s %14.3f -> %14.3f %s %+8.1f%%  %s%n",
+          entry.getKey(), oldScore, newScore,
+          metric.path("scoreUnit").asText(),
+          (newScore - oldScore) / oldScore * 100, verdict);
+    }
+    for (String key : baseline.keySet()) {
+      if (!candidate.containsKey(key)) {
+        System.out.printf("%-90s REMOVED%n", key);
+      }
+    }
+
+    System.exit(regressions > 0 ? 1 : 0);
+  }
+
+  private static String verdict(JsonNode before, JsonNode after) {
+    JsonNode oldInterval =
+        before.path("primaryMetric").path("scoreConfidence");
+    JsonNode newInterval =
+        after.path("primaryMetric").path("scoreConfidence");
+    double oldLow = oldInterval.path(0).asDouble();
+    double oldHigh = oldInterval.path(1).asDouble();
+    double newLow = newInterval.path(0).asDouble();
+    double newHigh = newInterval.path(1).asDouble();
+    // JMH reports NaN intervals when too few iterations were measured
+    if (Double.isNaN(oldLow + oldHigh + newLow + newHigh)) return "";
+    if (newLow <= oldHigh && oldLow <= newHigh) return "";
+
+    boolean higher = newLow > oldHigh;
+    boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+    return higher == higherIsBetter ? "IMPROVEMENT" : "REGRESSION";
+  }
+
+  /**
+   * Reads the results of a JMH JSON file keyed by benchmark, mode and params.
+   */
+  private static Map<String, JsonNode> read(File file) throws IOException {
+    Map<String, JsonNode> results = new LinkedHashMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(file)) {
+      Map<String, String> params = new TreeMap<>();
+      Iterator<Map.Entry<String, JsonNode>> fields =
+          result.path("params").fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        params.put(field.getKey(), field.getValue().asText());
+      }
+
+      // Keyed by the simple class name and the method of the benchmark
+      String benchmark = result.path("benchmark").asText();
+      String name = benchmark.substring(
+          benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+      String key = name + " " + result.path("mode").asText()
+          + (params.isEmpty() ? "" : " " + params);
+      results.put(key, result);
+    }
+    return results;
+  }
+
+}
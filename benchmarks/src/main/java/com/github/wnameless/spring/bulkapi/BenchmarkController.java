@@ -0,0 +1,47 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * {@link BenchmarkController} provides bulkable routes for benchmarks.
+ *
+ */
+@Bulkable
+@RestController
+public class BenchmarkController {
+
+  @GetMapping("/items/{id}")
+  public String item(@PathVariable("id") String id) {
+    return id;
+  }
+
+  @PostMapping("/items")
+  public Map<String, Object> createItem(@RequestBody Map<String, Object> item) {
+    return item;
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *
+ * {@link BenchmarkMain} runs JMH like {@code org.openjdk.jmh.Main}, but writes
+ * the results as JSON into {@code jmh-result-<version>.json} unless another
+ * result format or file is given, so results of releases can be compared by
+ * {@link BenchmarkComparison}.
+ *
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {}
+
+  public static void main(String[] args) throws Exception {
+    List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+    if (!jmhArgs.contains("-rf")) {
+      jmhArgs.add("-rf");
+      jmhArgs.add("json");
+    }
+    if (!jmhArgs.contains("-rff")) {
+      String version =
+          BenchmarkMain.class.getPackage().getImplementationVersion();
+      jmhArgs.add("-rff");
+      jmhArgs.add(
+          "jmh-result-" + (version == null ? "dev" : version) + ".json");
+    }
+    org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ *
+ * {@link Benchmarks} provides shared fixtures of all benchmarks.
+ *
+ */
+final class Benchmarks {
+
+  private Benchmarks() {}
+
+  /**
+   * Creates a refreshed {@link GenericApplicationContext} with given
+   * properties.
+   *
+   * @param keyValues
+   *          property keys and values in turns
+   * @return a {@link GenericApplicationContext}
+   */
+  static GenericApplicationContext applicationContext(String... keyValues) {
+    return applicationContext(Collections.emptyList(), keyValues);
+  }
+
+  /**
+   * Creates a refreshed {@link GenericApplicationContext} with given beans and
+   * properties.
+   *
+   * @param beanClasses
+   *          classes of beans to register
+   * @param keyValues
+   *          property keys and values in turns
+   * @return a {@link GenericApplicationContext}
+   */
+  static GenericApplicationContext applicationContext(
+      List<Class<?>> beanClasses, String... keyValues) {
+    Map<String, Object> props = new LinkedHashMap<>();
+    for (int i = 0; i + 1 < keyValues.length; i += 2) {
+      props.put(keyValues[i], keyValues[i + 1]);
+    }
+
+    StandardEnvironment env = new StandardEnvironment();
+    env.getPropertySources()
+        .addFirst(new MapPropertySource("benchmark", props));
+
+    GenericApplicationContext appCtx = new GenericApplicationContext();
+    appCtx.setEnvironment(env);
+    for (Class<?> beanClass : beanClasses) {
+      appCtx.registerBean(beanClass);
+    }
+    appCtx.refresh();
+    return appCtx;
+  }
+
+}
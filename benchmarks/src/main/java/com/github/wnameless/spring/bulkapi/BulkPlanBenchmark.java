@@ -0,0 +1,114 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ *
+ * Measures the per-operation overhead of validating a bulk request. Each
+ * operation used to be validated once before execution and computed again
+ * right before dispatch ({@code validateAndReplan}), now it is validated once
+ * into a {@link BulkOperationPlan} which execution consumes
+ * ({@code validateOnce}).
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkPlanBenchmark {
+
+  @Param({ "10", "100" })
+  public int bulkSize;
+
+  private GenericApplicationContext appCtx;
+  private DefaultBulkApiService service;
+  private MockHttpServletRequest servReq;
+  private List<BulkOperation> ops;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    appCtx = Benchmarks.applicationContext(
+        Collections.singletonList(BenchmarkController.class));
+    service = new DefaultBulkApiService(appCtx);
+    servReq = new MockHttpServletRequest("POST", "/bulk");
+
+    ops = new ArrayList<>();
+    for (int i = 0; i < bulkSize; i++) {
+      BulkOperation op = new BulkOperation();
+      if (i % 2 == 0) {
+        op.setUrl("/items/" + i);
+      } else {
+        op.setUrl("/items");
+        op.setMethod("POST");
+      }
+      ops.add(op);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    service.destroy();
+    appCtx.close();
+  }
+
+  @Benchmark
+  public MockHttpServletRequest validateOnce() {
+    servReq.clearAttributes();
+    for (BulkOperation op : ops) {
+      service.validateOperation(op, servReq);
+    }
+    return servReq;
+  }
+
+  @Benchmark
+  public MockHttpServletRequest validateAndReplan() {
+    servReq.clearAttributes();
+    for (BulkOperation op : ops) {
+      service.validateOperation(op, servReq);
+    }
+    servReq.clearAttributes();
+    for (BulkOperation op : ops) {
+      service.validateOperation(op, servReq);
+    }
+    return servReq;
+  }
+
+}
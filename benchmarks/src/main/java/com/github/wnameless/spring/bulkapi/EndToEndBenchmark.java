@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_MODE_KEY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ *
+ * Measures whole bulk requests sent to an embedded server, from reading the
+ * bulk request through {@link DefaultBulkApiService#bulk} to writing the bulk
+ * response. Half of the operations read an item and the other half create
+ * one on {@link BenchmarkController}, the 500 routes of
+ * {@link RouteTableControllers} are also mapped.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+
+  /**
+   * The embedded application under benchmark.
+   */
+  @SpringBootConfiguration
+  @EnableAutoConfiguration
+  @EnableBulkApi
+  public static class Application {}
+
+  @Param({ "1", "10", "100" })
+  public int bulkSize;
+
+  @Param({ "in-process", "loopback" })
+  public String dispatchMode;
+
+  private ConfigurableApplicationContext appCtx;
+  private RestTemplate restTemplate;
+  private String url;
+  private HttpEntity<BulkRequest> entity;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    appCtx = new SpringApplicationBuilder(Application.class)
+        .bannerMode(Banner.Mode.OFF).properties("server.port=0",
+            BULK_API_DISPATCH_MODE_KEY + "=" + dispatchMode)
+        .run();
+    int port =
+        ((WebServerApplicationContext) appCtx).getWebServer().getPort();
+    url = "http://localhost:" + port + "/bulk";
+    restTemplate = new RestTemplate();
+
+    List<BulkOperation> ops = new ArrayList<>();
+    for (int i = 0; i < bulkSize; i++) {
+      BulkOperation op = new BulkOperation();
+      if (i % 2 == 0) {
+        op.setUrl("/items/" + i);
+      } else {
+        op.setUrl("/items");
+        op.setMethod("POST");
+        op.setParams(Collections.singletonMap("name", "item" + i));
+      }
+      ops.add(op);
+    }
+    BulkRequest req = new BulkRequest();
+    req.setOperations(ops);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    entity = new HttpEntity<>(req, headers);
+
+    ResponseEntity<String> res = bulk();
+    if (!res.getStatusCode().is2xxSuccessful()
+        || res.getBody().contains("\"status\":4")
+        || res.getBody().contains("\"status\":5")) {
+      throw new IllegalStateException("Bulk request failed: " + res);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    appCtx.close();
+  }
+
+  @Benchmark
+  public ResponseEntity<String> bulk() {
+    return restTemplate.postForEntity(url, entity, String.class);
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_PER_BULK_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_POOL_SIZE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * Compares the sequential loop, the platform thread pool and virtual threads
+ * of {@link BulkOperationExecutor} with operations which block on I/O, at bulk
+ * sizes up to the default {@code spring.bulk.api.limit}.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+  @Param({ "sequential", "platform", "virtual" })
+  public String mode;
+
+  @Param({ "1", "10", "50", "100" })
+  public int bulkSize;
+
+  @Param({ "1000" })
+  public long opLatencyMicros;
+
+  private BulkOperationExecutor executor;
+  private List<Callable<Integer>> tasks;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = new BulkOperationExecutor(Benchmarks.applicationContext(
+        BULK_API_PARALLEL_KEY, String.valueOf(!"sequential".equals(mode)),
+        BULK_API_PARALLEL_THREADS_KEY, mode,
+        BULK_API_PARALLEL_POOL_SIZE_KEY, "100",
+        BULK_API_PARALLEL_PER_BULK_KEY, "100"));
+
+    tasks = new ArrayList<>();
+    for (int i = 0; i < bulkSize; i++) {
+      final int idx = i;
+      tasks.add(() -> {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(opLatencyMicros));
+        return idx;
+      });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public List<Integer> invokeAll() {
+    return executor.invokeAll(tasks);
+  }
+
+}
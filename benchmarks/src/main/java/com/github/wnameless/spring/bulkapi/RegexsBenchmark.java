@@ -0,0 +1,67 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * Measures how a route template is turned into a regex when routes are
+ * resolved, {@link Regexs#escapeSpecialCharacters} alone and the whole
+ * {@link RoutingPathResolver#computeRegexPath}, from a static path to a path
+ * with several path variables and Ant-style wildcards.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexsBenchmark {
+
+  private static final Pattern PATH_VAR = Pattern.compile("\\{[^/]+?\\}");
+
+  @Param({ "/api/items", "/api/items/{id}",
+      "/api/v1.0/users/{userId}/orders/{orderId}/lines/{lineId}",
+      "/api/files/**/*.json", "/api/items/{id:[0-9]+}/tags/?" })
+  public String path;
+
+  @Benchmark
+  public String escapeSpecialCharacters() {
+    return Regexs.escapeSpecialCharacters(path, PATH_VAR);
+  }
+
+  @Benchmark
+  public String computeRegexPath() {
+    return RoutingPathResolver.computeRegexPath(path);
+  }
+
+}
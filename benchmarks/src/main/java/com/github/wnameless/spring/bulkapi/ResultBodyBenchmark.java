@@ -0,0 +1,151 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * Compares writing an operation body into the bulk response after decoding it
+ * into a {@link String} with writing the UTF-8 bytes as they are received, for
+ * JSON bodies embedded as strings or as raw JSON. Run with {@code -prof gc} to
+ * measure the allocation per operation.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultBodyBenchmark {
+
+  /**
+   * Copies all written bytes into an 8 KB buffer, like the output buffer of a
+   * servlet container, then discards them.
+   */
+  private static final class ContainerBuffer extends OutputStream {
+
+    private final byte[] buffer = new byte[8192];
+    private int count;
+
+    @Override
+    public void write(int b) {
+      if (count == buffer.length) count = 0;
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      while (len > 0) {
+        if (count == buffer.length) count = 0;
+        int n = Math.min(len, buffer.length - count);
+        System.arraycopy(b, off, buffer, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+  }
+
+  @Param({ "1024", "65536", "1048576" })
+  public int bodySize;
+
+  @Param({ "false", "true" })
+  public boolean rawJson;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ContainerBuffer out = new ContainerBuffer();
+
+  private byte[] body;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    StringBuilder sb = new StringBuilder("[");
+    String item = "{\"id\":12345,\"name\":\"Café \\\"Bulk\\\"\"},";
+    while (sb.length() + item.length() < bodySize) {
+      sb.append(item);
+    }
+    sb.setLength(sb.length() - 1);
+    body = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+    byte[] fromString = write(stringResult());
+    byte[] fromBytes = write(byteResult());
+    if (!Arrays.equals(fromString, fromBytes)) {
+      throw new IllegalStateException("Both pipelines must write equal JSON");
+    }
+  }
+
+  @Benchmark
+  public BulkResult stringBody() throws IOException {
+    BulkResult result = stringResult();
+    objectMapper.writeValue(out, result);
+    return result;
+  }
+
+  @Benchmark
+  public BulkResult byteBody() throws IOException {
+    BulkResult result = byteResult();
+    objectMapper.writeValue(out, result);
+    return result;
+  }
+
+  private BulkResult stringResult() {
+    BulkResult result = new BulkResult();
+    result.setStatus(200);
+    result.setBody(new String(body, StandardCharsets.UTF_8));
+    result.setRawJson(rawJson);
+    return result;
+  }
+
+  private BulkResult byteResult() {
+    BulkResult result = new BulkResult();
+    result.setStatus(200);
+    result.setBody(body, StandardCharsets.UTF_8);
+    result.setRawJson(rawJson);
+    return result;
+  }
+
+  private byte[] write(BulkResult result) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    objectMapper.writeValue(out, result);
+    return out.toByteArray();
+  }
+
+}
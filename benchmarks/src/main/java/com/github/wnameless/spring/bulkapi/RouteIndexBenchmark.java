@@ -0,0 +1,128 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ *
+ * Compares the former two-pass scan over all routes with
+ * {@link RoutingPathIndex}, by looking up 100 request paths which hit routes
+ * spread over the whole table.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteIndexBenchmark {
+
+  @Param({ "10", "100", "1000" })
+  public int routes;
+
+  private Set<RoutingPath> routingPaths;
+  private RoutingPathIndex index;
+  private List<String> requestPaths;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    routingPaths = new LinkedHashSet<>();
+    for (int i = 0; i < routes; i++) {
+      routingPaths.add(routingPath(route(i)));
+    }
+    index = new RoutingPathIndex(routingPaths);
+
+    Random rand = new Random(42);
+    requestPaths = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      requestPaths.add(route(rand.nextInt(routes))
+          .replace("{id}", String.valueOf(i)).replace("*", "tag" + i));
+    }
+  }
+
+  @Benchmark
+  public void linearScan(Blackhole bh) {
+    for (String requestPath : requestPaths) {
+      bh.consume(scan(requestPath, RequestMethod.GET));
+    }
+  }
+
+  @Benchmark
+  public void routeIndex(Blackhole bh) {
+    for (String requestPath : requestPaths) {
+      bh.consume(index.find(requestPath, RequestMethod.GET));
+    }
+  }
+
+  private RoutingPath scan(String requestPath, RequestMethod method) {
+    for (RoutingPath rp : routingPaths) {
+      if (rp.getPath().equals(requestPath) && rp.getMethod().equals(method)) {
+        return rp;
+      }
+    }
+    for (RoutingPath rp : routingPaths) {
+      if (requestPath.matches(rp.getRegexPath().pattern())
+          && rp.getMethod().equals(method)) {
+        return rp;
+      }
+    }
+    return null;
+  }
+
+  private static String route(int i) {
+    switch (i % 3) {
+      case 0:
+        return "/api/r" + i + "/items";
+      case 1:
+        return "/api/r" + i + "/items/{id}";
+      default:
+        return "/api/r" + i + "/items/{id}/tags/*";
+    }
+  }
+
+  private static RoutingPath routingPath(String path) {
+    return new RoutingPath(RequestMethod.GET, path, path,
+        Pattern.compile(RoutingPathResolver.computeRegexPath(path)),
+        new Annotation[0], new Annotation[0], new Annotation[0][0]);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ *
+ * Compares building the route table of 500 handler methods by scanning
+ * controllers with reflection and by reading the registry of a
+ * {@link RequestMappingHandlerMapping} which Spring MVC has already built.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteTableBenchmark {
+
+  private static final String BASE_PACKAGE =
+      RouteTableBenchmark.class.getPackage().getName();
+
+  private GenericApplicationContext appCtx;
+  private RequestMappingHandlerMapping handlerMapping;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Class<?>> beanClasses =
+        new ArrayList<>(RouteTableControllers.CONTROLLERS);
+    beanClasses.add(RequestMappingHandlerMapping.class);
+    appCtx = Benchmarks.applicationContext(beanClasses);
+    handlerMapping = appCtx.getBean(RequestMappingHandlerMapping.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    appCtx.close();
+  }
+
+  @Benchmark
+  public RoutingPathResolver reflectionScan() {
+    return new RoutingPathResolver(appCtx, BASE_PACKAGE);
+  }
+
+  @Benchmark
+  public RoutingPathResolver handlerMapping() {
+    return new RoutingPathResolver(appCtx, handlerMapping, BASE_PACKAGE);
+  }
+
+}
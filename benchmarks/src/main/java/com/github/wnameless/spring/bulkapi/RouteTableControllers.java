@@ -0,0 +1,624 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *
+ * {@link RouteTableControllers} declares 500 handler methods in 10 bulkable
+ * controllers for {@link RouteTableBenchmark}, the methods are generated and
+ * only differ by their paths.
+ *
+ */
+final class RouteTableControllers {
+
+  static final List<Class<?>> CONTROLLERS = Arrays.asList(Controller0.class,
+      Controller1.class, Controller2.class, Controller3.class,
+      Controller4.class, Controller5.class, Controller6.class,
+      Controller7.class, Controller8.class, Controller9.class);
+
+  private RouteTableControllers() {}
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c0")
+  public static class Controller0 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c1")
+  public static class Controller1 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c2")
+  public static class Controller2 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c3")
+  public static class Controller3 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c4")
+  public static class Controller4 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c5")
+  public static class Controller5 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c6")
+  public static class Controller6 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c7")
+  public static class Controller7 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c8")
+  public static class Controller8 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+  @Bulkable
+  @RestController
+  @RequestMapping("/c9")
+  public static class Controller9 {
+
+    @GetMapping("/m0/{id}") public String m0(@PathVariable String id) { return id; }
+    @GetMapping("/m1/{id}") public String m1(@PathVariable String id) { return id; }
+    @GetMapping("/m2/{id}") public String m2(@PathVariable String id) { return id; }
+    @GetMapping("/m3/{id}") public String m3(@PathVariable String id) { return id; }
+    @GetMapping("/m4/{id}") public String m4(@PathVariable String id) { return id; }
+    @GetMapping("/m5/{id}") public String m5(@PathVariable String id) { return id; }
+    @GetMapping("/m6/{id}") public String m6(@PathVariable String id) { return id; }
+    @GetMapping("/m7/{id}") public String m7(@PathVariable String id) { return id; }
+    @GetMapping("/m8/{id}") public String m8(@PathVariable String id) { return id; }
+    @GetMapping("/m9/{id}") public String m9(@PathVariable String id) { return id; }
+    @GetMapping("/m10/{id}") public String m10(@PathVariable String id) { return id; }
+    @GetMapping("/m11/{id}") public String m11(@PathVariable String id) { return id; }
+    @GetMapping("/m12/{id}") public String m12(@PathVariable String id) { return id; }
+    @GetMapping("/m13/{id}") public String m13(@PathVariable String id) { return id; }
+    @GetMapping("/m14/{id}") public String m14(@PathVariable String id) { return id; }
+    @GetMapping("/m15/{id}") public String m15(@PathVariable String id) { return id; }
+    @GetMapping("/m16/{id}") public String m16(@PathVariable String id) { return id; }
+    @GetMapping("/m17/{id}") public String m17(@PathVariable String id) { return id; }
+    @GetMapping("/m18/{id}") public String m18(@PathVariable String id) { return id; }
+    @GetMapping("/m19/{id}") public String m19(@PathVariable String id) { return id; }
+    @GetMapping("/m20/{id}") public String m20(@PathVariable String id) { return id; }
+    @GetMapping("/m21/{id}") public String m21(@PathVariable String id) { return id; }
+    @GetMapping("/m22/{id}") public String m22(@PathVariable String id) { return id; }
+    @GetMapping("/m23/{id}") public String m23(@PathVariable String id) { return id; }
+    @GetMapping("/m24/{id}") public String m24(@PathVariable String id) { return id; }
+    @GetMapping("/m25/{id}") public String m25(@PathVariable String id) { return id; }
+    @GetMapping("/m26/{id}") public String m26(@PathVariable String id) { return id; }
+    @GetMapping("/m27/{id}") public String m27(@PathVariable String id) { return id; }
+    @GetMapping("/m28/{id}") public String m28(@PathVariable String id) { return id; }
+    @GetMapping("/m29/{id}") public String m29(@PathVariable String id) { return id; }
+    @GetMapping("/m30/{id}") public String m30(@PathVariable String id) { return id; }
+    @GetMapping("/m31/{id}") public String m31(@PathVariable String id) { return id; }
+    @GetMapping("/m32/{id}") public String m32(@PathVariable String id) { return id; }
+    @GetMapping("/m33/{id}") public String m33(@PathVariable String id) { return id; }
+    @GetMapping("/m34/{id}") public String m34(@PathVariable String id) { return id; }
+    @GetMapping("/m35/{id}") public String m35(@PathVariable String id) { return id; }
+    @GetMapping("/m36/{id}") public String m36(@PathVariable String id) { return id; }
+    @GetMapping("/m37/{id}") public String m37(@PathVariable String id) { return id; }
+    @GetMapping("/m38/{id}") public String m38(@PathVariable String id) { return id; }
+    @GetMapping("/m39/{id}") public String m39(@PathVariable String id) { return id; }
+    @GetMapping("/m40/{id}") public String m40(@PathVariable String id) { return id; }
+    @GetMapping("/m41/{id}") public String m41(@PathVariable String id) { return id; }
+    @GetMapping("/m42/{id}") public String m42(@PathVariable String id) { return id; }
+    @GetMapping("/m43/{id}") public String m43(@PathVariable String id) { return id; }
+    @GetMapping("/m44/{id}") public String m44(@PathVariable String id) { return id; }
+    @GetMapping("/m45/{id}") public String m45(@PathVariable String id) { return id; }
+    @GetMapping("/m46/{id}") public String m46(@PathVariable String id) { return id; }
+    @GetMapping("/m47/{id}") public String m47(@PathVariable String id) { return id; }
+    @GetMapping("/m48/{id}") public String m48(@PathVariable String id) { return id; }
+    @GetMapping("/m49/{id}") public String m49(@PathVariable String id) { return id; }
+
+  }
+
+}
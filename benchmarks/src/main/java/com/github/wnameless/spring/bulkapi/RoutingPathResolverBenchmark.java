@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ *
+ * Measures {@link RoutingPathResolver#findByRequestPathAndMethod} at several
+ * route table sizes, by looking up 100 request paths which hit routes spread
+ * over the whole table ({@code hit}) or match no route ({@code miss}).
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutingPathResolverBenchmark {
+
+  private static final String BASE_PACKAGE =
+      RoutingPathResolverBenchmark.class.getPackage().getName();
+
+  @Param({ "10", "100", "1000" })
+  public int routes;
+
+  private GenericApplicationContext appCtx;
+  private RoutingPathResolver resolver;
+  private List<String> hitPaths;
+  private List<String> missPaths;
+
+  @Setup(Level.Trial)
+  public void setUp() throws NoSuchMethodException {
+    appCtx = Benchmarks.applicationContext(
+        Collections.singletonList(RequestMappingHandlerMapping.class));
+    RequestMappingHandlerMapping handlerMapping =
+        appCtx.getBean(RequestMappingHandlerMapping.class);
+
+    BenchmarkController handler = new BenchmarkController();
+    Method method = BenchmarkController.class.getMethod("item", String.class);
+    for (int i = 0; i < routes; i++) {
+      handlerMapping.registerMapping(RequestMappingInfo.paths(route(i))
+          .methods(RequestMethod.GET).build(), handler, method);
+    }
+    resolver = new RoutingPathResolver(appCtx, handlerMapping, BASE_PACKAGE);
+
+    Random rand = new Random(42);
+    hitPaths = new ArrayList<>();
+    missPaths = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      String requestPath = route(rand.nextInt(routes))
+          .replace("{id}", String.valueOf(i)).replace("*", "tag" + i);
+      hitPaths.add(requestPath);
+      missPaths.add(requestPath + "/missing");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    appCtx.close();
+  }
+
+  @Benchmark
+  public void hit(Blackhole bh) {
+    for (String requestPath : hitPaths) {
+      bh.consume(
+          resolver.findByRequestPathAndMethod(requestPath, RequestMethod.GET));
+    }
+  }
+
+  @Benchmark
+  public void miss(Blackhole bh) {
+    for (String requestPath : missPaths) {
+      bh.consume(
+          resolver.findByRequestPathAndMethod(requestPath, RequestMethod.GET));
+    }
+  }
+
+  private static String route(int i) {
+    switch (i % 3) {
+      case 0:
+        return "/api/r" + i + "/items";
+      case 1:
+        return "/api/r" + i + "/items/{id}";
+      default:
+        return "/api/r" + i + "/items/{id}/tags/*";
+    }
+  }
+
+}
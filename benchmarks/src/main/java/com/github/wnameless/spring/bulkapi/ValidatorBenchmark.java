@@ -0,0 +1,103 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_VALIDATION_CACHE_SIZE_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpMethod;
+
+/**
+ *
+ * Measures {@link BulkApiValidator#validatePath} over the 501 routes of
+ * {@link RouteTableControllers} and {@link BenchmarkController}, by validating
+ * 100 distinct request paths of which every tenth one is rejected. The
+ * validation cache is disabled, smaller than the paths or large enough for all
+ * of them.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  @Param({ "0", "50", "1000" })
+  public int cacheSize;
+
+  private GenericApplicationContext appCtx;
+  private BulkApiValidator validator;
+  private List<String> paths;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Class<?>> beanClasses =
+        new ArrayList<>(RouteTableControllers.CONTROLLERS);
+    beanClasses.add(BenchmarkController.class);
+    appCtx = Benchmarks.applicationContext(beanClasses,
+        BULK_API_VALIDATION_CACHE_SIZE_KEY, String.valueOf(cacheSize));
+    validator = new BulkApiValidator(appCtx);
+    validator.refresh();
+
+    Random rand = new Random(42);
+    paths = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      if (i % 10 == 9) {
+        paths.add("/missing/" + i);
+      } else if (i % 10 == 0) {
+        paths.add("/items/" + i);
+      } else {
+        paths.add("/c" + rand.nextInt(10) + "/m" + rand.nextInt(50) + "/" + i);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    appCtx.close();
+  }
+
+  @Benchmark
+  public void validatePath(Blackhole bh) {
+    for (String path : paths) {
+      bh.consume(validator.validatePath(path, HttpMethod.GET));
+    }
+  }
+
+}
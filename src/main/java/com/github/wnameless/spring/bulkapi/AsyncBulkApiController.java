@@ -0,0 +1,151 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_TIMEOUT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_TIMEOUT_KEY;
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.github.wnameless.spring.bulkapi.BulkResultStreamWriter.Format;
+
+/**
+ * 
+ * {@link AsyncBulkApiController} handles the bulk request from API users
+ * asynchronously, so the servlet container thread goes back to the pool while
+ * the operations run. It replaces the {@link BulkApiController} if
+ * {@code spring.bulk.api.async} is true.
+ *
+ */
+@RestController
+@ConditionalOnProperty(name = BULK_API_ASYNC_KEY, havingValue = "true")
+public class AsyncBulkApiController
+    implements InitializingBean, DisposableBean {
+
+  @Autowired
+  ApplicationContext appCtx;
+
+  @Autowired(required = false)
+  BulkApiService bulkApiService;
+
+  private DefaultBulkApiService ownBulkApiService;
+
+  private BulkRequestReader bulkRequestReader;
+
+  /**
+   * Creates the {@link DefaultBulkApiService} on startup if no
+   * {@link BulkApiService} bean exists, so it resolves routes and warms up
+   * before the first bulk request.
+   */
+  @Override
+  public void afterPropertiesSet() {
+    bulkApiService();
+  }
+
+  /**
+   * Shuts down the {@link DefaultBulkApiService} created by this controller. A
+   * {@link BulkApiService} bean is destroyed by Spring instead.
+   */
+  @Override
+  public void destroy() {
+    if (ownBulkApiService != null) ownBulkApiService.destroy();
+  }
+
+  BulkApiService bulkApiService() {
+    if (bulkApiService == null) {
+      ownBulkApiService = new DefaultBulkApiService(appCtx);
+      bulkApiService = ownBulkApiService;
+    }
+    return bulkApiService;
+  }
+
+  private BulkRequestReader bulkRequestReader() {
+    if (bulkRequestReader == null) {
+      bulkRequestReader = new BulkRequestReader(appCtx);
+    }
+    return bulkRequestReader;
+  }
+
+  /**
+   * Processes bulk requests from API users asynchronously. The
+   * {@link DeferredResult} is set to a {@link BulkResponse} which contains all
+   * the results of the {@link BulkRequest}, or to a {@link BulkApiException}
+   * if the bulk request doesn't finish within
+   * {@code spring.bulk.api.async.timeout} milliseconds.<br>
+   * <br>
+   * Streamed bulk responses are written on the request thread as soon as each
+   * result finishes, then null is returned.
+   * 
+   * @param servReq
+   *          the {@link HttpServletRequest} whose body is a {@link BulkRequest}
+   * @param servRes
+   *          the {@link HttpServletResponse}
+   * @return a {@link DeferredResult} of {@link BulkResponse} or null
+   */
+  @RequestMapping(value = "${spring.bulk.api.path:/bulk}", method = POST)
+  DeferredResult<BulkResponse> bulk(HttpServletRequest servReq,
+      HttpServletResponse servRes) {
+    BulkRequest req = bulkRequestReader().read(servReq, bulkApiService());
+    Format format = Format.of(servReq, appCtx.getEnvironment());
+    if (format != null) {
+      new BulkResultStreamWriter(format, BulkApiBeans.objectMapper(appCtx),
+          servRes).stream(bulkApiService(), req, servReq);
+      return null;
+    }
+
+    long timeout = appCtx.getEnvironment().getProperty(
+        BULK_API_ASYNC_TIMEOUT_KEY, long.class, BULK_API_ASYNC_TIMEOUT_DEFAULT);
+    DeferredResult<BulkResponse> result = new DeferredResult<>(timeout);
+
+    CompletableFuture<BulkResponse> future =
+        bulkApiService().bulkAsync(req, servReq);
+    result.onTimeout(() -> {
+      result.setErrorResult(new BulkApiException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Bulk request timed out after " + timeout + " ms"));
+      future.cancel(true);
+    });
+    future.whenComplete((res, ex) -> {
+      if (ex == null) {
+        result.setResult(res);
+      } else {
+        result.setErrorResult(
+            ex instanceof CompletionException && ex.getCause() != null
+                ? ex.getCause() : ex);
+      }
+    });
+
+    return result;
+  }
+
+}
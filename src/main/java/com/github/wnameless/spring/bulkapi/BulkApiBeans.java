@@ -0,0 +1,76 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskDecorator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link BulkApiBeans} looks up optional collaborators of the bulk API from
+ * the Spring {@link ApplicationContext}.
+ *
+ */
+final class BulkApiBeans {
+
+  private BulkApiBeans() {}
+
+  /**
+   * Returns the first bean of given type, or null if there is none.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @param type
+   *          the bean type
+   * @return a bean or null
+   */
+  static <T> T findBean(ApplicationContext appCtx, Class<T> type) {
+    String[] beanNames = appCtx.getBeanNamesForType(type);
+    return beanNames.length > 0 ? appCtx.getBean(beanNames[0], type) : null;
+  }
+
+  /**
+   * Returns the {@link ObjectMapper} bean, or a plain {@link ObjectMapper} if
+   * there is none.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @return an {@link ObjectMapper}
+   */
+  static ObjectMapper objectMapper(ApplicationContext appCtx) {
+    ObjectMapper objectMapper = findBean(appCtx, ObjectMapper.class);
+    return objectMapper == null ? new ObjectMapper() : objectMapper;
+  }
+
+  /**
+   * Returns the {@link TaskDecorator} bean, or null if there is none or more
+   * than one.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @return a {@link TaskDecorator} or null
+   */
+  static TaskDecorator taskDecorator(ApplicationContext appCtx) {
+    String[] beanNames = appCtx.getBeanNamesForType(TaskDecorator.class);
+    return beanNames.length == 1
+        ? appCtx.getBean(beanNames[0], TaskDecorator.class) : null;
+  }
+
+}
@@ -17,6 +17,10 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -36,4 +40,161 @@ public class BulkApiConfig {
   public static final String BULK_API_LIMIT_KEY = "spring.bulk.api.limit";
   public static final int BULK_API_LIMIT_DEFAULT = 100;
 
+  public static final String BULK_API_PARALLEL_KEY = "spring.bulk.api.parallel";
+  public static final boolean BULK_API_PARALLEL_DEFAULT = false;
+
+  public static final String BULK_API_PARALLEL_POOL_SIZE_KEY =
+      "spring.bulk.api.parallel.pool-size";
+  public static final int BULK_API_PARALLEL_POOL_SIZE_DEFAULT = 16;
+
+  public static final String BULK_API_PARALLEL_PER_BULK_KEY =
+      "spring.bulk.api.parallel.per-bulk";
+  public static final int BULK_API_PARALLEL_PER_BULK_DEFAULT = 4;
+
+  public static final String BULK_API_PARALLEL_THREADS_KEY =
+      "spring.bulk.api.parallel.threads";
+  public static final String BULK_API_PARALLEL_THREADS_DEFAULT = "platform";
+
+  public static final String BULK_API_EXECUTOR_BEAN_NAME = "bulkApiExecutor";
+
+  public static final String BULK_API_DEADLINE_KEY = "spring.bulk.api.deadline";
+  public static final long BULK_API_DEADLINE_DEFAULT = 0L;
+
+  public static final String BULK_API_DEADLINE_HEADER = "X-Bulk-Deadline";
+
+  public static final String BULK_API_RAW_JSON_KEY = "spring.bulk.api.raw-json";
+  public static final boolean BULK_API_RAW_JSON_DEFAULT = false;
+
+  public static final String BULK_API_RAW_JSON_HEADER = "X-Bulk-Raw-Json";
+
+  public static final String BULK_API_ASYNC_KEY = "spring.bulk.api.async";
+  public static final boolean BULK_API_ASYNC_DEFAULT = false;
+
+  public static final String BULK_API_ASYNC_TIMEOUT_KEY =
+      "spring.bulk.api.async.timeout";
+  public static final long BULK_API_ASYNC_TIMEOUT_DEFAULT = 30000L;
+
+  public static final String BULK_API_ASYNC_POOL_SIZE_KEY =
+      "spring.bulk.api.async.pool-size";
+  public static final int BULK_API_ASYNC_POOL_SIZE_DEFAULT = 16;
+
+  public static final String BULK_API_ASYNC_QUEUE_CAPACITY_KEY =
+      "spring.bulk.api.async.queue-capacity";
+  public static final int BULK_API_ASYNC_QUEUE_CAPACITY_DEFAULT = 100;
+
+  public static final String BULK_API_STREAMING_KEY =
+      "spring.bulk.api.streaming";
+  public static final String BULK_API_STREAMING_DEFAULT = "none";
+
+  public static final String BULK_API_ROUTES_KEY = "spring.bulk.api.routes";
+  public static final String BULK_API_ROUTES_DEFAULT = "reflection";
+
+  public static final String BULK_API_VALIDATION_CACHE_SIZE_KEY =
+      "spring.bulk.api.validation.cache-size";
+  public static final int BULK_API_VALIDATION_CACHE_SIZE_DEFAULT = 1000;
+
+  public static final String BULK_API_WARM_UP_KEY = "spring.bulk.api.warm-up";
+  public static final boolean BULK_API_WARM_UP_DEFAULT = false;
+
+  public static final String BULK_API_WARM_UP_PATHS_KEY =
+      "spring.bulk.api.warm-up.paths";
+
+  public static final String BULK_API_WARM_UP_ITERATIONS_KEY =
+      "spring.bulk.api.warm-up.iterations";
+  public static final int BULK_API_WARM_UP_ITERATIONS_DEFAULT = 10;
+
+  public static final String BULK_API_HEADERS_ALLOW_KEY =
+      "spring.bulk.api.headers.allow";
+  public static final String BULK_API_HEADERS_DENY_KEY =
+      "spring.bulk.api.headers.deny";
+
+  public static final String BULK_API_COALESCE_KEY = "spring.bulk.api.coalesce";
+  public static final boolean BULK_API_COALESCE_DEFAULT = false;
+
+  public static final String BULK_API_COALESCED_ATTRIBUTE =
+      "com.github.wnameless.spring.bulkapi.COALESCED";
+
+  public static final String BULK_API_RESPONSE_CACHE_SIZE_KEY =
+      "spring.bulk.api.response-cache.size";
+  public static final int BULK_API_RESPONSE_CACHE_SIZE_DEFAULT = 0;
+
+  public static final String BULK_API_RESPONSE_CACHE_TTL_KEY =
+      "spring.bulk.api.response-cache.ttl";
+  public static final long BULK_API_RESPONSE_CACHE_TTL_DEFAULT = 0L;
+
+  public static final String BULK_API_RESPONSE_CACHE_KEY_HEADERS_KEY =
+      "spring.bulk.api.response-cache.key-headers";
+  public static final String BULK_API_RESPONSE_CACHE_KEY_HEADERS_DEFAULT =
+      "Authorization,Cookie,Accept,Accept-Language";
+
+  public static final String BULK_API_METRICS_KEY = "spring.bulk.api.metrics";
+  public static final boolean BULK_API_METRICS_DEFAULT = false;
+
+  public static final String BULK_API_CONCURRENCY_LIMIT_KEY =
+      "spring.bulk.api.concurrency-limit";
+  public static final boolean BULK_API_CONCURRENCY_LIMIT_DEFAULT = false;
+
+  public static final String BULK_API_CONCURRENCY_LIMIT_INITIAL_KEY =
+      "spring.bulk.api.concurrency-limit.initial";
+  public static final int BULK_API_CONCURRENCY_LIMIT_INITIAL_DEFAULT = 20;
+
+  public static final String BULK_API_CONCURRENCY_LIMIT_MIN_KEY =
+      "spring.bulk.api.concurrency-limit.min";
+  public static final int BULK_API_CONCURRENCY_LIMIT_MIN_DEFAULT = 4;
+
+  public static final String BULK_API_CONCURRENCY_LIMIT_MAX_KEY =
+      "spring.bulk.api.concurrency-limit.max";
+  public static final int BULK_API_CONCURRENCY_LIMIT_MAX_DEFAULT = 1000;
+
+  public static final String BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_KEY =
+      "spring.bulk.api.concurrency-limit.retry-after";
+  public static final int BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_DEFAULT = 1;
+
+  public static final String BULK_API_DISPATCH_MODE_KEY =
+      "spring.bulk.api.dispatch.mode";
+  public static final String BULK_API_DISPATCH_MODE_DEFAULT = "loopback";
+
+  public static final String BULK_API_DISPATCH_LOOPBACK_PATHS_KEY =
+      "spring.bulk.api.dispatch.loopback-paths";
+  public static final String BULK_API_DISPATCH_IN_PROCESS_PATHS_KEY =
+      "spring.bulk.api.dispatch.in-process-paths";
+
+  public static final String BULK_API_HTTP_MAX_CONNECTIONS_KEY =
+      "spring.bulk.api.http.max-connections";
+  public static final int BULK_API_HTTP_MAX_CONNECTIONS_DEFAULT = 200;
+
+  public static final String BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_KEY =
+      "spring.bulk.api.http.max-connections-per-host";
+  public static final int BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_DEFAULT = 50;
+
+  public static final String BULK_API_HTTP_CONNECT_TIMEOUT_KEY =
+      "spring.bulk.api.http.connect-timeout";
+  public static final int BULK_API_HTTP_CONNECT_TIMEOUT_DEFAULT = 5000;
+
+  public static final String BULK_API_HTTP_READ_TIMEOUT_KEY =
+      "spring.bulk.api.http.read-timeout";
+  public static final int BULK_API_HTTP_READ_TIMEOUT_DEFAULT = 0;
+
+  public static final String BULK_API_HTTP_IDLE_TIMEOUT_KEY =
+      "spring.bulk.api.http.idle-timeout";
+  public static final long BULK_API_HTTP_IDLE_TIMEOUT_DEFAULT = 30000L;
+
+  public static final String BULK_API_REST_TEMPLATE_BEAN_NAME =
+      "bulkApiRestTemplate";
+
+  /**
+   * Registers the {@link BulkApiHealthIndicator} if Spring Boot Actuator is
+   * present.
+   */
+  @Configuration
+  @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+  static class BulkApiHealthConfig {
+
+    @Bean
+    HealthIndicator bulkApiHealthIndicator(ApplicationContext appCtx) {
+      return new BulkApiHealthIndicator(appCtx);
+    }
+
+  }
+
 }
@@ -17,23 +17,33 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_KEY;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.wnameless.spring.bulkapi.BulkResultStreamWriter.Format;
+
 /**
  * 
- * {@link BulkApiController} handles the bulk request from API users.
+ * {@link BulkApiController} handles the bulk request from API users. It is
+ * replaced by the {@link AsyncBulkApiController} if
+ * {@code spring.bulk.api.async} is true.
  *
  */
 @RestController
-public class BulkApiController {
+@ConditionalOnProperty(name = BULK_API_ASYNC_KEY, havingValue = "false",
+    matchIfMissing = true)
+public class BulkApiController implements InitializingBean, DisposableBean {
 
   @Autowired
   ApplicationContext appCtx;
@@ -41,27 +51,68 @@ public class BulkApiController {
   @Autowired(required = false)
   BulkApiService bulkApiService;
 
-  private BulkApiService bulkApiService() {
+  private DefaultBulkApiService ownBulkApiService;
+
+  private BulkRequestReader bulkRequestReader;
+
+  /**
+   * Creates the {@link DefaultBulkApiService} on startup if no
+   * {@link BulkApiService} bean exists, so it resolves routes and warms up
+   * before the first bulk request.
+   */
+  @Override
+  public void afterPropertiesSet() {
+    bulkApiService();
+  }
+
+  /**
+   * Shuts down the {@link DefaultBulkApiService} created by this controller. A
+   * {@link BulkApiService} bean is destroyed by Spring instead.
+   */
+  @Override
+  public void destroy() {
+    if (ownBulkApiService != null) ownBulkApiService.destroy();
+  }
+
+  BulkApiService bulkApiService() {
     if (bulkApiService == null) {
-      bulkApiService = new DefaultBulkApiService(appCtx);
+      ownBulkApiService = new DefaultBulkApiService(appCtx);
+      bulkApiService = ownBulkApiService;
     }
     return bulkApiService;
   }
 
+  private BulkRequestReader bulkRequestReader() {
+    if (bulkRequestReader == null) {
+      bulkRequestReader = new BulkRequestReader(appCtx);
+    }
+    return bulkRequestReader;
+  }
+
   /**
    * Processes bulk requests from API users. Returns a {@link BulkResponse}
-   * which contains all the results of the {@link BulkRequest}.
+   * which contains all the results of the {@link BulkRequest}, or streams each
+   * result as soon as it finishes if a streaming format is requested, then
+   * null is returned.
    * 
-   * @param req
-   *          a {@link BulkRequest}
    * @param servReq
-   *          the {@link HttpServletRequest}
-   * @return a {@link BulkResponse}
+   *          the {@link HttpServletRequest} whose body is a {@link BulkRequest}
+   * @param servRes
+   *          the {@link HttpServletResponse}
+   * @return a {@link BulkResponse} or null
    * @throws BulkApiException
    *           if this bulk request is invalid
    */
   @RequestMapping(value = "${spring.bulk.api.path:/bulk}", method = POST)
-  BulkResponse bulk(@RequestBody BulkRequest req, HttpServletRequest servReq) {
+  BulkResponse bulk(HttpServletRequest servReq, HttpServletResponse servRes) {
+    BulkRequest req = bulkRequestReader().read(servReq, bulkApiService());
+    Format format = Format.of(servReq, appCtx.getEnvironment());
+    if (format != null) {
+      new BulkResultStreamWriter(format, BulkApiBeans.objectMapper(appCtx),
+          servRes).stream(bulkApiService(), req, servReq);
+      return null;
+    }
+
     return bulkApiService().bulk(req, servReq);
   }
 
@@ -17,6 +17,7 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -31,6 +32,7 @@ public final class BulkApiException extends RuntimeException {
 
   private final HttpStatus status;
   private final String error;
+  private final HttpHeaders headers;
 
   /**
    * Creates a {@link BulkApiException}.
@@ -41,11 +43,29 @@ public final class BulkApiException extends RuntimeException {
    *          message
    */
   public BulkApiException(HttpStatus status, String error) {
+    this(status, error, new HttpHeaders());
+  }
+
+  /**
+   * Creates a {@link BulkApiException} whose response carries given headers,
+   * ex: a Retry-After header.
+   * 
+   * @param status
+   *          a {@link HttpStatus}
+   * @param error
+   *          message
+   * @param headers
+   *          {@link HttpHeaders} of the response
+   */
+  public BulkApiException(HttpStatus status, String error,
+      HttpHeaders headers) {
     if (status == null) throw new NullPointerException();
     if (error == null) throw new NullPointerException();
+    if (headers == null) throw new NullPointerException();
 
     this.status = status;
     this.error = error;
+    this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
   }
 
   /**
@@ -66,6 +86,16 @@ public final class BulkApiException extends RuntimeException {
     return error;
   }
 
+  /**
+   * Returns the {@link HttpHeaders} of the response of this
+   * {@link BulkApiException}.
+   * 
+   * @return read-only {@link HttpHeaders}
+   */
+  public HttpHeaders getHeaders() {
+    return headers;
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{status=" + status + ", error=" + error
@@ -19,12 +19,14 @@ package com.github.wnameless.spring.bulkapi;
 
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.nio.charset.StandardCharsets;
 
@@ -32,11 +34,13 @@ import java.nio.charset.StandardCharsets;
  * {@link BulkApiExceptionHandlerAdvice} handles all {@link BulkApiException}
  * during a bulk request.
  */
-@ControllerAdvice(assignableTypes = BulkApiController.class)
+@ControllerAdvice(assignableTypes = { BulkApiController.class,
+        AsyncBulkApiController.class })
 public class BulkApiExceptionHandlerAdvice {
 
     /**
-     * Sets the proper HTTP status code and returns the error message.
+     * Sets the proper HTTP status code and headers, and returns the error
+     * message.
      *
      * @param servRes   a {@link HttpServletResponse}
      * @param exception a {@link BulkApiException}
@@ -46,9 +50,27 @@ public class BulkApiExceptionHandlerAdvice {
     @ResponseBody
     String handleError(HttpServletResponse servRes, BulkApiException exception) {
         servRes.setStatus(exception.getStatus().value());
+        exception.getHeaders().forEach((name, values) -> values
+                .forEach(value -> servRes.addHeader(name, value)));
         return exception.getError();
     }
 
+    /**
+     * Sets the HTTP status code to 503 when an async bulk request is timed out
+     * by the servlet container.
+     *
+     * @param servRes   a {@link HttpServletResponse}
+     * @param exception a {@link AsyncRequestTimeoutException}
+     * @return an error message
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    @ResponseBody
+    String handleError(HttpServletResponse servRes,
+                       AsyncRequestTimeoutException exception) {
+        servRes.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        return "Bulk request timed out";
+    }
+
     @ExceptionHandler(HttpClientErrorException.class)
     @ResponseBody
     ResponseEntity<Object> handleError(HttpClientErrorException exception) {
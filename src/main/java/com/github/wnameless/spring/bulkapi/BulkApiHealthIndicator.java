@@ -0,0 +1,69 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.ApplicationContext;
+
+/**
+ *
+ * {@link BulkApiHealthIndicator} reports the bulk API as OUT_OF_SERVICE until
+ * the {@link DefaultBulkApiService} is ready, so a load balancer probing the
+ * health endpoint only admits traffic once routes are resolved and the
+ * warm-up is finished. Other {@link BulkApiService} implementations are
+ * reported as UP.
+ *
+ */
+final class BulkApiHealthIndicator implements HealthIndicator {
+
+  private final ApplicationContext appCtx;
+
+  BulkApiHealthIndicator(ApplicationContext appCtx) {
+    this.appCtx = appCtx;
+  }
+
+  @Override
+  public Health health() {
+    BulkApiService service = bulkApiService();
+    if (!(service instanceof DefaultBulkApiService)) return Health.up().build();
+
+    DefaultBulkApiService defaultService = (DefaultBulkApiService) service;
+    Health.Builder builder =
+        defaultService.isReady() ? Health.up() : Health.outOfService();
+    return builder.withDetail("routesResolved",
+        defaultService.getValidator().isResolved())
+        .withDetail("warmUpFailures", defaultService.getWarmUpFailureCount())
+        .build();
+  }
+
+  private BulkApiService bulkApiService() {
+    BulkApiService service =
+        BulkApiBeans.findBean(appCtx, BulkApiService.class);
+    if (service != null) return service;
+
+    BulkApiController controller =
+        BulkApiBeans.findBean(appCtx, BulkApiController.class);
+    if (controller != null) return controller.bulkApiService();
+    AsyncBulkApiController asyncController =
+        BulkApiBeans.findBean(appCtx, AsyncBulkApiController.class);
+    if (asyncController != null) return asyncController.bulkApiService();
+    return null;
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_METRICS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_METRICS_KEY;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ *
+ * {@link BulkApiMetrics} records what a {@link DefaultBulkApiService} does.
+ * Unless {@code spring.bulk.api.metrics} is true and Micrometer is on the
+ * classpath, the no-op {@link #NOOP} is used, which neither reads the clock nor
+ * loads any Micrometer class.
+ *
+ */
+interface BulkApiMetrics {
+
+  /**
+   * The {@link BulkApiMetrics} which records nothing.
+   */
+  BulkApiMetrics NOOP = new BulkApiMetrics() {};
+
+  /**
+   * Returns the {@link BulkApiMetrics} of given service.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @param service
+   *          the {@link DefaultBulkApiService} to record
+   * @return a {@link BulkApiMetrics}
+   */
+  static BulkApiMetrics of(ApplicationContext appCtx,
+      DefaultBulkApiService service) {
+    boolean enabled = appCtx.getEnvironment().getProperty(BULK_API_METRICS_KEY,
+        boolean.class, BULK_API_METRICS_DEFAULT);
+    if (!enabled || !ClassUtils.isPresent(
+        "io.micrometer.core.instrument.MeterRegistry", appCtx.getClassLoader())) {
+      return NOOP;
+    }
+    return new MicrometerBulkApiMetrics(appCtx, service);
+  }
+
+  /**
+   * Returns the start time of something to be timed.
+   *
+   * @return a {@link System#nanoTime()}, or 0 if nothing is recorded
+   */
+  default long start() {
+    return 0;
+  }
+
+  /**
+   * Records a finished bulk request.
+   *
+   * @param operationCount
+   *          the number of operations
+   * @param start
+   *          the {@link #start()} of the bulk request
+   * @param success
+   *          false if the bulk request failed
+   */
+  default void bulkFinished(int operationCount, long start, boolean success) {}
+
+  /**
+   * Records an executed operation.
+   *
+   * @param plan
+   *          the {@link BulkOperationPlan} of the operation
+   * @param start
+   *          the {@link #start()} of the operation
+   * @param status
+   *          the HTTP status code of the operation
+   */
+  default void operationFinished(BulkOperationPlan plan, long start,
+      int status) {}
+
+  /**
+   * Records a result of an operation, executed or not.
+   *
+   * @param status
+   *          the HTTP status code of the result
+   * @param silent
+   *          true if the result is not returned
+   */
+  default void result(int status, boolean silent) {}
+
+  /**
+   * Records a rejected bulk request.
+   *
+   * @param e
+   *          the {@link BulkApiException} of the rejection
+   */
+  default void rejected(BulkApiException e) {}
+
+}
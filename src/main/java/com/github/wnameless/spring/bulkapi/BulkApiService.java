@@ -17,6 +17,10 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import javax.servlet.http.HttpServletRequest;
 
 /**
@@ -39,4 +43,73 @@ public interface BulkApiService {
    */
   public BulkResponse bulk(BulkRequest req, HttpServletRequest servReq);
 
+  /**
+   * Validates a single {@link BulkOperation} as soon as it is read from the
+   * bulk request body, before the rest of the body is read.<br>
+   * <br>
+   * By default, it does nothing and all operations are validated by
+   * {@link #bulk(BulkRequest, HttpServletRequest)}.
+   * 
+   * @param op
+   *          a {@link BulkOperation}
+   * @param servReq
+   *          a {@link HttpServletRequest}
+   * @throws BulkApiException
+   *           if this operation is invalid
+   */
+  public default void validateOperation(BulkOperation op,
+      HttpServletRequest servReq) {}
+
+  /**
+   * Processes the given {@link BulkRequest} and passes each {@link BulkResult}
+   * to the {@link BulkResultListener} instead of returning a
+   * {@link BulkResponse}.<br>
+   * <br>
+   * By default, it calls {@link #bulk(BulkRequest, HttpServletRequest)} and
+   * replays all results.
+   * 
+   * @param req
+   *          a {@link BulkRequest}
+   * @param servReq
+   *          a {@link HttpServletRequest}
+   * @param listener
+   *          a {@link BulkResultListener}
+   */
+  public default void bulk(BulkRequest req, HttpServletRequest servReq,
+      BulkResultListener listener) {
+    BulkResponse res = bulk(req, servReq);
+    listener.onStart();
+    List<BulkOperation> ops = req.getOperations();
+    Iterator<BulkResult> results = res.getResults().iterator();
+    for (int i = 0; i < ops.size() && results.hasNext(); i++) {
+      if (!ops.get(i).isSilent()) listener.onResult(i, results.next());
+    }
+  }
+
+  /**
+   * Processes the given {@link BulkRequest} asynchronously. The returned
+   * {@link CompletableFuture} is completed by a {@link BulkResponse}, or
+   * exceptionally if the bulk request fails. Cancelling it should cancel all
+   * unfinished operations.<br>
+   * <br>
+   * By default, it runs {@link #bulk(BulkRequest, HttpServletRequest)} on the
+   * calling thread.
+   * 
+   * @param req
+   *          a {@link BulkRequest}
+   * @param servReq
+   *          a {@link HttpServletRequest}
+   * @return a {@link CompletableFuture} of {@link BulkResponse}
+   */
+  public default CompletableFuture<BulkResponse> bulkAsync(BulkRequest req,
+      HttpServletRequest servReq) {
+    CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+    try {
+      future.complete(bulk(req, servReq));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
 }
@@ -17,39 +17,148 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
-import java.lang.annotation.Annotation;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ROUTES_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ROUTES_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_VALIDATION_CACHE_SIZE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_VALIDATION_CACHE_SIZE_KEY;
+
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.HttpMethod;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
-import net.sf.rubycollect4j.Ruby;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
 
 /**
  * 
  * {@link BulkApiValidator} can check all bulk request paths and methods whether
- * bulkable or not.
+ * bulkable or not.<br>
+ * <br>
+ * Routes and their bulk facts are resolved once into an immutable snapshot,
+ * when the {@link ApplicationContext} is refreshed or by the first validation.
+ * Routes are scanned from controllers, or read from the
+ * {@link RequestMappingHandlerMapping} if {@code spring.bulk.api.routes} is
+ * handler-mapping.
+ * Results of recent paths and methods, including rejected ones, are kept in a
+ * LRU cache bounded by {@code spring.bulk.api.validation.cache-size}, 0
+ * disables the cache.
  *
  */
 public class BulkApiValidator {
 
-  private final RoutingPathResolver pathRes;
+  /**
+   * {@link RouteSource} lists where routes are resolved from.
+   */
+  enum RouteSource {
+
+    REFLECTION, HANDLER_MAPPING;
+
+    static RouteSource of(String value) {
+      return RouteSource.valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+
+  }
+
+  private static final PathValidationResult INVALID =
+      new PathValidationResult(false, false);
+
+  private static final int METHOD_COUNT = HttpMethod.values().length;
+
+  /**
+   * {@link Routes} is an immutable snapshot of resolved routes, the validation
+   * result of each bulkable route and the cached results of request paths, so
+   * all of them are replaced at once when the routes are resolved again.
+   */
+  private static final class Routes {
+
+    final RoutingPathResolver pathRes;
+    final Map<RoutingPath, PathValidationResult> results;
+    final Cache<String, PathValidationResult[]> cache;
+
+    Routes(RoutingPathResolver pathRes,
+        Map<RoutingPath, PathValidationResult> results,
+        Cache<String, PathValidationResult[]> cache) {
+      this.pathRes = pathRes;
+      this.results = results;
+      this.cache = cache;
+    }
+
+  }
+
+  private final ApplicationContext appCtx;
+  private final RouteSource routeSource;
+  private final int cacheSize;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  private volatile Routes routes;
 
   public BulkApiValidator(ApplicationContext appCtx) {
-    Map<String, Object> bulkableBeans =
-        appCtx.getBeansWithAnnotation(Bulkable.class);
-    String[] basePackageNames = bulkableBeans.values().stream()
-        .map(o -> o.getClass().getPackage().getName()).toArray(String[]::new);
+    this.appCtx = appCtx;
+    routeSource = RouteSource.of(appCtx.getEnvironment()
+        .getProperty(BULK_API_ROUTES_KEY, BULK_API_ROUTES_DEFAULT));
+    cacheSize = appCtx.getEnvironment().getProperty(
+        BULK_API_VALIDATION_CACHE_SIZE_KEY, int.class,
+        BULK_API_VALIDATION_CACHE_SIZE_DEFAULT);
+  }
 
-    pathRes = new com.github.wnameless.spring.bulkapi.RoutingPathResolver(appCtx, basePackageNames);
+  /**
+   * Resolves all routes of bulkable beans again and clears the cache, ex: after
+   * the {@link ApplicationContext} is refreshed.
+   */
+  public synchronized void refresh() {
+    routes = resolveRoutes();
   }
 
   /**
-   * Checks if any request path with certain method is bulkable or not.
+   * Checks if routes are resolved already, so the first validation doesn't
+   * have to resolve them.
+   *
+   * @return true if routes are resolved, false otherwise
+   */
+  public boolean isResolved() {
+    return routes != null;
+  }
+
+  /**
+   * Returns the number of validations answered by the cache.
+   *
+   * @return the hit count
+   */
+  public long getCacheHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of validations which resolved routes.
+   *
+   * @return the miss count
+   */
+  public long getCacheMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of cached results evicted by the size bound.
+   *
+   * @return the eviction count
+   */
+  public long getCacheEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Checks if any request path with certain method is bulkable or not. The
+   * query string of the path is ignored, so results are cached per path.
    * 
    * @param path
    *          a request bulk path
@@ -58,42 +167,85 @@ public class BulkApiValidator {
    * @return true if request path and method is bulkable, false otherwise
    */
   public PathValidationResult validatePath(String path, HttpMethod method) {
-    com.github.wnameless.spring.bulkapi.RoutingPath rp = pathRes.findByRequestPathAndMethod(path,
-        RequestMethod.valueOf(method.toString()));
+    int queryIdx = path.indexOf('?');
+    if (queryIdx >= 0) path = path.substring(0, queryIdx);
 
-    if (rp == null) return new PathValidationResult(false, false);
+    Routes current = routes();
+    if (current.cache == null) return validatePath(current, path, method);
 
-    Annotation bulkable = findBulkableAnno(rp);
-    if (bulkable != null) {
-      if (isAutoApply(bulkable) || isAcceptBulk(rp))
-        return new PathValidationResult(true, hasRequestBody(rp));
+    PathValidationResult[] results = current.cache.getIfPresent(path);
+    if (results != null && results[method.ordinal()] != null) {
+      hitCount.increment();
+      return results[method.ordinal()];
     }
 
-    return new PathValidationResult(false, false);
-  }
-
-  private boolean hasRequestBody(com.github.wnameless.spring.bulkapi.RoutingPath rp) {
-    for (List<Annotation> annos : rp.getParameterAnnotations()) {
-      if (Ruby.Array.of(annos).map(Annotation::annotationType)
-          .contains(RequestBody.class))
-        return true;
+    missCount.increment();
+    PathValidationResult pvr = validatePath(current, path, method);
+    if (results == null) {
+      results = current.cache.asMap().computeIfAbsent(path,
+          key -> new PathValidationResult[METHOD_COUNT]);
     }
-    return false;
+    // Racing writers store equal results, so a lost write only costs a miss
+    results[method.ordinal()] = pvr;
+    return pvr;
   }
 
-  private boolean isAcceptBulk(RoutingPath rp) {
-    return rp.getMethodAnnotations().stream().map(Annotation::annotationType)
-        .collect(Collectors.toList()).contains(AcceptBulk.class);
+  private static PathValidationResult validatePath(Routes current, String path,
+      HttpMethod method) {
+    RoutingPath rp = current.pathRes.findByRequestPathAndMethod(path,
+        RequestMethod.valueOf(method.name()));
+
+    if (rp == null) return INVALID;
+
+    PathValidationResult pvr = current.results.get(rp);
+    return pvr == null ? INVALID : pvr;
   }
 
-  private boolean isAutoApply(Annotation bulkable) {
-    return ((Bulkable) bulkable).autoApply();
+  private Routes routes() {
+    Routes current = routes;
+    if (current == null) {
+      synchronized (this) {
+        current = routes;
+        if (current == null) routes = current = resolveRoutes();
+      }
+    }
+    return current;
   }
 
-  private Annotation findBulkableAnno(com.github.wnameless.spring.bulkapi.RoutingPath rp) {
-    return rp.getClassAnnotations().stream()
-        .filter(item -> item.annotationType().equals(Bulkable.class))
-        .findFirst().orElse(null);
+  private Routes resolveRoutes() {
+    Map<String, Object> bulkableBeans =
+        appCtx.getBeansWithAnnotation(Bulkable.class);
+    String[] basePackageNames = bulkableBeans.values().stream()
+        .map(o -> o.getClass().getPackage().getName()).toArray(String[]::new);
+
+    RequestMappingHandlerMapping handlerMapping = null;
+    if (routeSource == RouteSource.HANDLER_MAPPING) {
+      handlerMapping =
+          BulkApiBeans.findBean(appCtx, RequestMappingHandlerMapping.class);
+    }
+    // Without a handler mapping, ex: outside Spring MVC, controllers are scanned
+    RoutingPathResolver pathRes = handlerMapping == null
+        ? new RoutingPathResolver(appCtx, basePackageNames)
+        : new RoutingPathResolver(appCtx, handlerMapping, basePackageNames);
+
+    Map<RoutingPath, PathValidationResult> results = new IdentityHashMap<>();
+    for (RoutingPath rp : pathRes.getRoutingPaths()) {
+      if (rp.isBulkable()) {
+        results.put(rp, new PathValidationResult(true, rp.hasRequestBody(), rp));
+      }
+    }
+
+    Cache<String, PathValidationResult[]> cache = null;
+    if (cacheSize > 0) {
+      cache = CacheBuilder.newBuilder().maximumSize(cacheSize)
+          .<String, PathValidationResult[]> removalListener(notification -> {
+            if (notification.getCause() == RemovalCause.SIZE) {
+              evictionCount.increment();
+            }
+          }).build();
+    }
+
+    return new Routes(pathRes, results, cache);
   }
 
 }
@@ -0,0 +1,231 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_WARM_UP_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_WARM_UP_ITERATIONS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_WARM_UP_ITERATIONS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_WARM_UP_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_WARM_UP_PATHS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkOperationExecutor.daemonThreadFactory;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ *
+ * {@link BulkApiWarmUp} resolves the routes of a {@link BulkApiValidator} in a
+ * background thread once the {@link ApplicationContext} is refreshed, so the
+ * first bulk request doesn't pay for it.<br>
+ * <br>
+ * If {@code spring.bulk.api.warm-up} is true, synthetic bulk requests of GET
+ * operations are also sent to the bulk endpoint after the embedded web server
+ * is started, by the scheme, address and port the server is bound to. Only
+ * the operations listed by {@code spring.bulk.api.warm-up.paths} are sent,
+ * none by default. It is ready when routes are resolved and the warm-up is
+ * finished, failed warm-up requests don't hold it back.
+ *
+ */
+final class BulkApiWarmUp {
+
+  private static final Log log = LogFactory.getLog(BulkApiWarmUp.class);
+
+  private final ApplicationContext appCtx;
+  private final BulkApiValidator validator;
+  private final String bulkPath;
+  private final boolean enabled;
+  private final String[] paths;
+  private final int iterations;
+  private final int limit;
+
+  private final ExecutorService executor = Executors
+      .newSingleThreadExecutor(daemonThreadFactory("bulk-api-warm-up-"));
+
+  private final AtomicInteger failureCount = new AtomicInteger();
+
+  private volatile boolean warmedUp;
+
+  BulkApiWarmUp(ApplicationContext appCtx, BulkApiValidator validator,
+      String bulkPath) {
+    this.appCtx = appCtx;
+    this.validator = validator;
+    this.bulkPath = bulkPath;
+
+    Environment env = appCtx.getEnvironment();
+    enabled = env.getProperty(BULK_API_WARM_UP_KEY, boolean.class,
+        BULK_API_WARM_UP_DEFAULT);
+    paths = env.getProperty(BULK_API_WARM_UP_PATHS_KEY, String[].class,
+        new String[0]);
+    iterations = env.getProperty(BULK_API_WARM_UP_ITERATIONS_KEY, int.class,
+        BULK_API_WARM_UP_ITERATIONS_DEFAULT);
+    limit =
+        env.getProperty(BULK_API_LIMIT_KEY, int.class, BULK_API_LIMIT_DEFAULT);
+  }
+
+  /**
+   * Checks if routes are resolved and the warm-up, if enabled, is finished.
+   *
+   * @return true if ready, false otherwise
+   */
+  boolean isReady() {
+    return validator.isResolved() && (!enabled || warmedUp);
+  }
+
+  /**
+   * Returns the number of warm-up bulk requests which failed.
+   *
+   * @return the failure count
+   */
+  int getFailureCount() {
+    return failureCount.get();
+  }
+
+  /**
+   * Starts to resolve routes when the {@link ApplicationContext} is refreshed,
+   * and to warm up when its web server is started.
+   *
+   * @param event
+   *          an {@link ApplicationEvent}
+   */
+  void onApplicationEvent(ApplicationEvent event) {
+    if (event instanceof ContextRefreshedEvent
+        && ((ContextRefreshedEvent) event).getApplicationContext() == appCtx) {
+      executor.execute(() -> {
+        try {
+          validator.refresh();
+        } catch (RuntimeException e) {
+          log.warn("Bulk API routes can't be resolved in advance", e);
+        }
+      });
+    } else if (enabled && event instanceof WebServerInitializedEvent) {
+      WebServerInitializedEvent webServerEvent =
+          (WebServerInitializedEvent) event;
+      if (webServerEvent.getApplicationContext() != appCtx) return;
+
+      int port = webServerEvent.getWebServer().getPort();
+      executor.execute(() -> warmUp(port));
+    }
+  }
+
+  /**
+   * Stops the warm-up thread.
+   */
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void warmUp(int port) {
+    List<BulkRequest> reqs = warmUpRequests();
+    if (reqs.isEmpty()) {
+      warmedUp = true;
+      return;
+    }
+
+    String url = baseUrl(port) + bulkPath;
+    RestTemplate template = BulkHttpClients.restTemplate(appCtx);
+    try {
+      for (int i = 0; i < iterations
+          && !Thread.currentThread().isInterrupted(); i++) {
+        for (BulkRequest req : reqs) {
+          try {
+            template.postForEntity(url, req, String.class);
+          } catch (RestClientException e) {
+            if (failureCount.incrementAndGet() == 1) {
+              log.warn("Bulk API warm-up request to " + url + " failed", e);
+            }
+          }
+        }
+      }
+    } finally {
+      BulkHttpClients.close(appCtx, template);
+      warmedUp = true;
+    }
+  }
+
+  private String baseUrl(int port) {
+    ServerProperties server = Binder.get(appCtx.getEnvironment())
+        .bind("server", ServerProperties.class)
+        .orElseGet(ServerProperties::new);
+
+    Ssl ssl = server.getSsl();
+    String scheme = ssl != null && ssl.isEnabled() ? "https" : "http";
+
+    // A wildcard address accepts connections on the loopback interface too
+    String host = "localhost";
+    InetAddress address = server.getAddress();
+    if (address != null && !address.isAnyLocalAddress()) {
+      host = address.getHostAddress();
+      if (host.indexOf(':') >= 0) host = "[" + host + "]";
+    }
+
+    String contextPath = server.getServlet().getContextPath();
+    return scheme + "://" + host + ":" + port
+        + (contextPath == null ? "" : contextPath);
+  }
+
+  private List<BulkRequest> warmUpRequests() {
+    Set<String> urls = new LinkedHashSet<>();
+    for (String path : paths) {
+      if (!path.trim().isEmpty()) urls.add(path.trim());
+    }
+
+    // Operations are split into bulk requests within the bulk limit
+    List<BulkRequest> reqs = new ArrayList<>();
+    List<BulkOperation> ops = new ArrayList<>();
+    for (String url : urls) {
+      BulkOperation op = new BulkOperation();
+      op.setUrl(url);
+      op.setMethod("GET");
+      ops.add(op);
+      if (ops.size() == limit) {
+        reqs.add(bulkRequest(ops));
+        ops = new ArrayList<>();
+      }
+    }
+    if (!ops.isEmpty()) reqs.add(bulkRequest(ops));
+    return reqs;
+  }
+
+  private static BulkRequest bulkRequest(List<BulkOperation> ops) {
+    BulkRequest req = new BulkRequest();
+    req.setOperations(ops);
+    return req;
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_INITIAL_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_INITIAL_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MAX_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MAX_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MIN_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MIN_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_KEY;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+
+/**
+ *
+ * {@link BulkConcurrencyLimiter} adapts a limit of the operations in flight
+ * over all bulk requests to their latency, and rejects new bulk requests with
+ * 429 Too Many Requests and a Retry-After header once it is reached, before
+ * any of their operations run.<br>
+ * <br>
+ * An admitted bulk request holds as many permits as its operations may run at
+ * once, 1 if they run sequentially. A bulk request holding more permits than
+ * the limit is only admitted when nothing else is in flight.<br>
+ * <br>
+ * The limit follows the gradient between the long-term and the short-term
+ * average latency of operations: it grows while operations are as fast as
+ * usual, and shrinks as they slow down once latency rises by more than the
+ * tolerance, down to half of it per sample. An overloaded operation, ex:
+ * interrupted by a timeout or answered by 503, backs the limit off
+ * multiplicatively, at most once per short window of samples, since
+ * operations failing together are hit by the same congestion. The limit only
+ * grows when at least half of it is in use, so an idle service doesn't
+ * inflate it.
+ *
+ */
+final class BulkConcurrencyLimiter {
+
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF = 0.9;
+  private static final int SHORT_WINDOW = 10;
+  private static final int LONG_WINDOW = 600;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final HttpHeaders retryHeaders;
+
+  private double estimatedLimit;
+  private double shortRtt;
+  private double longRtt;
+  private long samples;
+  private long backoffAt = -SHORT_WINDOW;
+
+  private volatile int limit;
+  private int inFlight;
+
+  private final LongAdder rejectedCount = new LongAdder();
+
+  private BulkConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+      int retryAfter) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    estimatedLimit =
+        Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    limit = (int) estimatedLimit;
+
+    retryHeaders = new HttpHeaders();
+    retryHeaders.set(HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(0, retryAfter)));
+  }
+
+  /**
+   * Creates a {@link BulkConcurrencyLimiter}, or returns null if
+   * {@code spring.bulk.api.concurrency-limit} is not true.
+   *
+   * @param env
+   *          the {@link Environment}
+   * @return a {@link BulkConcurrencyLimiter} or null
+   */
+  static BulkConcurrencyLimiter of(Environment env) {
+    boolean enabled = env.getProperty(BULK_API_CONCURRENCY_LIMIT_KEY,
+        boolean.class, BULK_API_CONCURRENCY_LIMIT_DEFAULT);
+    if (!enabled) return null;
+
+    return new BulkConcurrencyLimiter(
+        env.getProperty(BULK_API_CONCURRENCY_LIMIT_INITIAL_KEY, int.class,
+            BULK_API_CONCURRENCY_LIMIT_INITIAL_DEFAULT),
+        env.getProperty(BULK_API_CONCURRENCY_LIMIT_MIN_KEY, int.class,
+            BULK_API_CONCURRENCY_LIMIT_MIN_DEFAULT),
+        env.getProperty(BULK_API_CONCURRENCY_LIMIT_MAX_KEY, int.class,
+            BULK_API_CONCURRENCY_LIMIT_MAX_DEFAULT),
+        env.getProperty(BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_KEY, int.class,
+            BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_DEFAULT));
+  }
+
+  /**
+   * Admits a bulk request holding given number of permits, which must be
+   * released once the bulk request finishes.
+   *
+   * @param permits
+   *          the number of operations the bulk request may run at once
+   * @throws BulkApiException
+   *           if the limit is reached
+   */
+  synchronized void acquire(int permits) {
+    if (inFlight > 0 && inFlight + permits > limit) {
+      rejectedCount.increment();
+      throw new BulkApiException(TOO_MANY_REQUESTS,
+          "Too many bulk operations in flight, the limit(" + limit
+              + ") is reached",
+          retryHeaders);
+    }
+    inFlight += permits;
+  }
+
+  /**
+   * Releases the permits of a finished bulk request.
+   *
+   * @param permits
+   *          the number of permits acquired
+   */
+  synchronized void release(int permits) {
+    inFlight -= permits;
+  }
+
+  /**
+   * Adapts the limit to a finished operation.
+   *
+   * @param rttNanos
+   *          the latency of the operation in nanoseconds
+   * @param overloaded
+   *          true if the operation failed by overload
+   */
+  synchronized void sample(long rttNanos, boolean overloaded) {
+    samples++;
+    if (overloaded) {
+      if (samples - backoffAt >= SHORT_WINDOW) {
+        backoffAt = samples;
+        update(estimatedLimit * BACKOFF);
+      }
+      return;
+    }
+
+    shortRtt = average(shortRtt, rttNanos, SHORT_WINDOW);
+    longRtt = average(longRtt, rttNanos, LONG_WINDOW);
+    // The long-term latency catches up soon after a load drop
+    if (longRtt / shortRtt > 2) longRtt *= 0.95;
+
+    double gradient =
+        Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    // Without enough operations in flight, a growing limit is not proven
+    if (newLimit > estimatedLimit && inFlight < estimatedLimit / 2) return;
+
+    update(newLimit);
+  }
+
+  private void update(double newLimit) {
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    limit = (int) estimatedLimit;
+  }
+
+  private static double average(double avg, long sample, int window) {
+    sample = Math.max(1, sample);
+    return avg == 0 ? sample : avg + (sample - avg) / window;
+  }
+
+  /**
+   * Returns the current limit of operations in flight.
+   *
+   * @return the limit
+   */
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Returns the number of permits held by bulk requests in flight.
+   *
+   * @return the permits in flight
+   */
+  synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Returns the number of bulk requests rejected by the limit.
+   *
+   * @return the rejected count
+   */
+  long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+}
@@ -0,0 +1,48 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ *
+ * {@link BulkDispatcher} sends a single {@link BulkOperation} to its target
+ * handler and returns the raw outcome.
+ *
+ */
+interface BulkDispatcher {
+
+  /**
+   * Dispatches the {@link BulkOperation} of given plan.
+   *
+   * @param plan
+   *          a non-deferred {@link BulkOperationPlan}
+   * @param headers
+   *          headers of the operation on top of the inherited ones
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @return a {@link ResponseEntity} of the operation
+   */
+  ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq);
+
+}
@@ -0,0 +1,123 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+
+/**
+ *
+ * {@link BulkHeaders} is the immutable layer of headers which all operations
+ * of a bulk request inherit from it. It is captured once per bulk request, and
+ * headers of an operation override it only when the operation is
+ * dispatched.<br>
+ * <br>
+ * Hop-by-hop headers are never inherited. If an allow list is given, only
+ * listed headers are inherited, and headers in the deny list are dropped, ex:
+ * a large Cookie header which no route needs.
+ *
+ */
+final class BulkHeaders {
+
+  private static final Set<String> HOP_BY_HOP_HEADERS =
+      headerNames(Arrays.asList(HttpHeaders.CONNECTION, "Keep-Alive",
+          HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION,
+          HttpHeaders.TE, HttpHeaders.TRAILER, HttpHeaders.TRANSFER_ENCODING,
+          HttpHeaders.UPGRADE));
+
+  private final Map<String, String> inherited;
+
+  private BulkHeaders(Map<String, String> inherited) {
+    this.inherited = Collections.unmodifiableMap(inherited);
+  }
+
+  /**
+   * Captures the inheritable headers of a bulk request.
+   *
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @param allowed
+   *          names of headers which may be inherited, all if empty
+   * @param denied
+   *          names of headers which are never inherited
+   * @return a {@link BulkHeaders}
+   */
+  static BulkHeaders inherit(HttpServletRequest servReq, Set<String> allowed,
+      Set<String> denied) {
+    Map<String, String> inherited = new LinkedCaseInsensitiveMap<>();
+    Enumeration<String> names = servReq.getHeaderNames();
+    while (names != null && names.hasMoreElements()) {
+      String name = names.nextElement();
+      if (HOP_BY_HOP_HEADERS.contains(name) || denied.contains(name)) continue;
+      if (!allowed.isEmpty() && !allowed.contains(name)) continue;
+
+      inherited.put(name, servReq.getHeader(name));
+    }
+    return new BulkHeaders(inherited);
+  }
+
+  /**
+   * Returns a case-insensitive set of header names.
+   *
+   * @param commaDelimitedNames
+   *          comma-separated header names
+   * @return a set of header names
+   */
+  static Set<String> headerNames(String commaDelimitedNames) {
+    return headerNames(Arrays.asList(StringUtils
+        .commaDelimitedListToStringArray(commaDelimitedNames)));
+  }
+
+  private static Set<String> headerNames(Iterable<String> names) {
+    Set<String> headerNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    for (String name : names) {
+      if (!name.trim().isEmpty()) headerNames.add(name.trim());
+    }
+    return headerNames;
+  }
+
+  /**
+   * Returns the headers of given operation on top of the inherited ones. The
+   * inherited layer itself is returned if the operation has no headers.
+   *
+   * @param op
+   *          a {@link BulkOperation}
+   * @return an unmodifiable map of headers
+   */
+  Map<String, String> of(BulkOperation op) {
+    Map<String, String> opHeaders = op.getHeaders();
+    if (opHeaders == null || opHeaders.isEmpty()) return inherited;
+
+    Map<String, String> headers =
+        new LinkedCaseInsensitiveMap<>(inherited.size() + opHeaders.size());
+    headers.putAll(inherited);
+    headers.putAll(opHeaders);
+    return Collections.unmodifiableMap(headers);
+  }
+
+}
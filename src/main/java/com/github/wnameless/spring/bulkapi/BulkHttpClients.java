@@ -0,0 +1,156 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_CONNECT_TIMEOUT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_CONNECT_TIMEOUT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_IDLE_TIMEOUT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_IDLE_TIMEOUT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_MAX_CONNECTIONS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_MAX_CONNECTIONS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_READ_TIMEOUT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HTTP_READ_TIMEOUT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_REST_TEMPLATE_BEAN_NAME;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ *
+ * {@link BulkHttpClients} builds the {@link RestTemplate} shared by all
+ * operations which are sent by HTTP.<br>
+ * <br>
+ * If Apache HttpClient is on the classpath, connections are pooled and kept
+ * alive, limited by {@code spring.bulk.api.http.max-connections} and
+ * {@code spring.bulk.api.http.max-connections-per-host}, and evicted after
+ * {@code spring.bulk.api.http.idle-timeout} milliseconds. Otherwise the JDK
+ * {@link java.net.HttpURLConnection} is used, which relies on the keep-alive
+ * cache of the JDK. Both honor {@code spring.bulk.api.http.connect-timeout} and
+ * {@code spring.bulk.api.http.read-timeout} in milliseconds, 0 means no
+ * timeout. A {@link RestTemplate} bean named {@code bulkApiRestTemplate}
+ * replaces the built-in one.
+ *
+ */
+final class BulkHttpClients {
+
+  private static final boolean HTTP_CLIENT_PRESENT = ClassUtils.isPresent(
+      "org.apache.http.impl.client.HttpClientBuilder",
+      BulkHttpClients.class.getClassLoader());
+
+  private BulkHttpClients() {}
+
+  /**
+   * Returns the {@link RestTemplate} bean named {@code bulkApiRestTemplate} if
+   * any, or builds a new one by the bulk API properties.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @return a {@link RestTemplate}
+   */
+  static RestTemplate restTemplate(ApplicationContext appCtx) {
+    if (appCtx.containsBean(BULK_API_REST_TEMPLATE_BEAN_NAME)) {
+      return appCtx.getBean(BULK_API_REST_TEMPLATE_BEAN_NAME,
+          RestTemplate.class);
+    }
+    return new RestTemplate(requestFactory(appCtx.getEnvironment()));
+  }
+
+  /**
+   * Releases the pooled connections of given {@link RestTemplate} if they
+   * are owned by the bulk API.
+   *
+   * @param appCtx
+   *          the Spring {@link ApplicationContext}
+   * @param template
+   *          a {@link RestTemplate} returned by
+   *          {@link #restTemplate(ApplicationContext)}
+   */
+  static void close(ApplicationContext appCtx, RestTemplate template) {
+    if (appCtx.containsBean(BULK_API_REST_TEMPLATE_BEAN_NAME)) return;
+
+    ClientHttpRequestFactory factory = template.getRequestFactory();
+    if (factory instanceof DisposableBean) {
+      try {
+        ((DisposableBean) factory).destroy();
+      } catch (Exception e) {}
+    }
+  }
+
+  static ClientHttpRequestFactory requestFactory(Environment env) {
+    int connectTimeout = env.getProperty(BULK_API_HTTP_CONNECT_TIMEOUT_KEY,
+        int.class, BULK_API_HTTP_CONNECT_TIMEOUT_DEFAULT);
+    int readTimeout = env.getProperty(BULK_API_HTTP_READ_TIMEOUT_KEY,
+        int.class, BULK_API_HTTP_READ_TIMEOUT_DEFAULT);
+
+    if (!HTTP_CLIENT_PRESENT) {
+      SimpleClientHttpRequestFactory factory =
+          new SimpleClientHttpRequestFactory();
+      factory.setConnectTimeout(connectTimeout);
+      factory.setReadTimeout(readTimeout);
+      return factory;
+    }
+
+    return HttpComponents.requestFactory(env, connectTimeout, readTimeout);
+  }
+
+  // Isolates Apache HttpClient types, so this class can be loaded without it
+  private static final class HttpComponents {
+
+    static ClientHttpRequestFactory requestFactory(Environment env,
+        int connectTimeout, int readTimeout) {
+      PoolingHttpClientConnectionManager connManager =
+          new PoolingHttpClientConnectionManager();
+      connManager.setMaxTotal(env.getProperty(BULK_API_HTTP_MAX_CONNECTIONS_KEY,
+          int.class, BULK_API_HTTP_MAX_CONNECTIONS_DEFAULT));
+      connManager.setDefaultMaxPerRoute(
+          env.getProperty(BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_KEY, int.class,
+              BULK_API_HTTP_MAX_CONNECTIONS_PER_HOST_DEFAULT));
+      long idleTimeout = env.getProperty(BULK_API_HTTP_IDLE_TIMEOUT_KEY,
+          long.class, BULK_API_HTTP_IDLE_TIMEOUT_DEFAULT);
+
+      CloseableHttpClient client = HttpClientBuilder.create()
+          .setConnectionManager(connManager)
+          .setDefaultRequestConfig(RequestConfig.custom()
+              .setConnectTimeout(connectTimeout)
+              .setConnectionRequestTimeout(connectTimeout)
+              .setSocketTimeout(readTimeout).build())
+          // Cookies of one user must never leak to another one
+          .disableCookieManagement()
+          .evictExpiredConnections()
+          .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS).build();
+
+      return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+  }
+
+}
@@ -17,7 +17,9 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,11 +29,55 @@ import java.util.Map;
  */
 public final class BulkOperation {
 
+  private String id;
+  private List<String> dependsOn = new ArrayList<String>();
   private String url;
   private String method = "GET";
   private Map<String, Object> params = new LinkedHashMap<String, Object>();
   private Map<String, String> headers = new LinkedHashMap<String, String>();
   private boolean silent = false;
+  private Long timeoutMs;
+
+  /**
+   * Returns the ID of this RESTful operation. An ID is only required if any
+   * other operation depends on the result of this operation.
+   * 
+   * @return an ID string
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Sets the ID of this RESTful operation.
+   * 
+   * @param id
+   *          an ID string
+   */
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  /**
+   * Returns the IDs of operations which must be completed before this RESTful
+   * operation.
+   * 
+   * @return a list of operation IDs
+   */
+  public List<String> getDependsOn() {
+    return dependsOn;
+  }
+
+  /**
+   * Sets the IDs of operations which must be completed before this RESTful
+   * operation.
+   * 
+   * @param dependsOn
+   *          a list of operation IDs
+   */
+  public void setDependsOn(List<String> dependsOn) {
+    this.dependsOn = dependsOn;
+  }
 
   /**
    * Returns the URL of this RESTful operation.
@@ -128,14 +174,38 @@ public final class BulkOperation {
     this.silent = silent;
   }
 
+  /**
+   * Returns the timeout of this RESTful operation in milliseconds, null if it
+   * has no timeout.
+   * 
+   * @return a timeout in milliseconds or null
+   */
+  public Long getTimeoutMs() {
+    return timeoutMs;
+  }
+
+  /**
+   * Sets the timeout of this RESTful operation in milliseconds. An operation
+   * which doesn't finish in time is cancelled and results in a 504 status.
+   * 
+   * @param timeoutMs
+   *          a timeout in milliseconds or null
+   */
+  public void setTimeoutMs(Long timeoutMs) {
+    this.timeoutMs = timeoutMs;
+  }
+
   @Override
   public int hashCode() {
     int result = 27;
+    result = 31 ^ result + ((id == null) ? 0 : id.hashCode());
+    result = 31 ^ result + ((dependsOn == null) ? 0 : dependsOn.hashCode());
     result = 31 ^ result + ((url == null) ? 0 : url.hashCode());
     result = 31 ^ result + ((method == null) ? 0 : method.hashCode());
     result = 31 ^ result + ((params == null) ? 0 : params.hashCode());
     result = 31 ^ result + ((headers == null) ? 0 : headers.hashCode());
     result = 31 ^ result + (silent ? 1 : 0);
+    result = 31 ^ result + ((timeoutMs == null) ? 0 : timeoutMs.hashCode());
     return result;
   }
 
@@ -145,18 +215,24 @@ public final class BulkOperation {
     if (obj == null) return false;
     if (!(obj instanceof BulkOperation)) return false;
     BulkOperation o = (BulkOperation) obj;
-    return (url == null ? o.url == null : url.equals(o.url))
+    return (id == null ? o.id == null : id.equals(o.id))
+        && (dependsOn == null ? o.dependsOn == null
+            : dependsOn.equals(o.dependsOn))
+        && (url == null ? o.url == null : url.equals(o.url))
         && (method == null ? o.method == null : method.equals(o.method))
         && (params == null ? o.params == null : params.equals(o.params))
         && (headers == null ? o.headers == null : headers.equals(o.headers))
-        && (silent == o.silent);
+        && (silent == o.silent)
+        && (timeoutMs == null ? o.timeoutMs == null
+            : timeoutMs.equals(o.timeoutMs));
   }
 
   @Override
   public String toString() {
-    return getClass().getSimpleName() + "{url=" + url + ", method=" + method
+    return getClass().getSimpleName() + "{id=" + id + ", dependsOn="
+        + dependsOn + ", url=" + url + ", method=" + method
         + ", params=" + params + ", headers=" + headers + ", silent=" + silent
-        + "}";
+        + ", timeoutMs=" + timeoutMs + "}";
   }
 
 }
@@ -0,0 +1,150 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ *
+ * {@link BulkOperationCoalescer} groups identical safe operations of a bulk
+ * request, so only the first operation of each group, its leader, is executed
+ * and the other operations share its result.<br>
+ * <br>
+ * Operations are identical if they have the same method, URI, headers,
+ * params, timeout and dependencies. Only GET, HEAD and OPTIONS operations
+ * without result references are coalesced. If operations run one by one,
+ * operations on both sides of any unsafe operation are never coalesced, so a
+ * GET after a POST still sees the effect of the POST.
+ *
+ */
+final class BulkOperationCoalescer {
+
+  private static final Set<HttpMethod> SAFE_METHODS =
+      EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+  private final int[] leaders;
+  private final Map<Integer, List<Integer>> followers = new HashMap<>();
+
+  /**
+   * Groups identical safe operations.
+   *
+   * @param plans
+   *          the {@link BulkOperationPlan} of each operation
+   * @param graph
+   *          the {@link BulkOperationGraph} of the operations
+   * @param waves
+   *          the waves which operations are executed in
+   * @param ordered
+   *          true if operations of each wave run one by one
+   * @param enabled
+   *          false if no operation is coalesced
+   */
+  BulkOperationCoalescer(List<BulkOperationPlan> plans,
+      BulkOperationGraph graph, List<List<Integer>> waves, boolean ordered,
+      boolean enabled) {
+    leaders = new int[plans.size()];
+    for (int idx = 0; idx < leaders.length; idx++) {
+      leaders[idx] = idx;
+    }
+    if (!enabled) return;
+
+    // Unsafe operations separate coalescable ones in the order of execution
+    Map<List<Object>, Integer> firsts = new HashMap<>();
+    int epoch = 0;
+    for (List<Integer> wave : waves) {
+      for (int idx : wave) {
+        BulkOperationPlan plan = plans.get(idx);
+        BulkOperation op = plan.getOperation();
+        if (!isSafe(plan)) {
+          if (ordered) epoch++;
+          continue;
+        }
+        if (plan.isDeferred()
+            || !BulkResultReferences.referredIds(op).isEmpty()) {
+          continue;
+        }
+
+        List<Object> key = Arrays.asList(epoch, plan.getMethod(),
+            plan.getUri(), op.getHeaders(), op.getParams(), op.getTimeoutMs(),
+            new TreeSet<>(graph.dependenciesOf(idx)));
+        Integer leader = firsts.putIfAbsent(key, idx);
+        if (leader != null) {
+          leaders[idx] = leader;
+          followers.computeIfAbsent(leader, k -> new ArrayList<>()).add(idx);
+        }
+      }
+    }
+  }
+
+  private static boolean isSafe(BulkOperationPlan plan) {
+    HttpMethod method = plan.getMethod();
+    if (plan.isDeferred() && plan.getOperation().getMethod() != null) {
+      method = HttpMethod
+          .resolve(plan.getOperation().getMethod().trim().toUpperCase());
+    }
+    return method != null && SAFE_METHODS.contains(method);
+  }
+
+  /**
+   * Checks if given operation is executed, or shares the result of its
+   * leader.
+   *
+   * @param idx
+   *          the index of an operation
+   * @return true if the operation is a leader, false otherwise
+   */
+  boolean isLeader(int idx) {
+    return leaders[idx] == idx;
+  }
+
+  /**
+   * Returns the indices of operations which share the result of given leader.
+   *
+   * @param idx
+   *          the index of a leader
+   * @return a list of operation indices in the order of execution
+   */
+  List<Integer> followersOf(int idx) {
+    List<Integer> indices = followers.get(idx);
+    return indices == null ? Collections.<Integer> emptyList() : indices;
+  }
+
+  /**
+   * Returns the number of executions saved by coalescing.
+   *
+   * @return the number of followers
+   */
+  int getSavedCount() {
+    int saved = 0;
+    for (List<Integer> indices : followers.values()) {
+      saved += indices.size();
+    }
+    return saved;
+  }
+
+}
@@ -0,0 +1,459 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_EXECUTOR_BEAN_NAME;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_PER_BULK_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_PER_BULK_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_POOL_SIZE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_POOL_SIZE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * {@link BulkOperationExecutor} runs the operations of a bulk request and
+ * returns their outcomes in request order.<br>
+ * <br>
+ * By default operations run one after another on the bulk request thread. If
+ * {@code spring.bulk.api.parallel} is true, they run on a bounded executor:
+ * the pool size ({@code spring.bulk.api.parallel.pool-size}) caps the
+ * parallelism of all bulks and {@code spring.bulk.api.parallel.per-bulk} caps
+ * the parallelism of a single bulk. An {@link Executor} bean named
+ * {@code bulkApiExecutor} replaces the built-in pool.<br>
+ * <br>
+ * Operations which don't run on the bulk request thread, in parallel or with
+ * a deadline, inherit its request attributes, locale and security context, so
+ * they behave the same on any thread. A {@link TaskDecorator} bean is applied
+ * to every task as well, ex: to propagate a logging context.<br>
+ * <br>
+ * If {@code spring.bulk.api.parallel.threads} is {@code virtual}, every
+ * operation runs on its own virtual thread instead and the pool size only
+ * limits how many of them run at once. Runtimes without virtual threads fall
+ * back to the platform thread pool.
+ *
+ */
+final class BulkOperationExecutor {
+
+  private static final Log log = LogFactory.getLog(BulkOperationExecutor.class);
+
+  private final int perBulk;
+  private final int poolSize;
+  private final Executor executor;
+  private final boolean ownsExecutor;
+  private final TaskDecorator taskDecorator;
+
+  private volatile ExecutorService timeoutExecutor;
+
+  BulkOperationExecutor(ApplicationContext appCtx) {
+    Environment env = appCtx.getEnvironment();
+    boolean parallel = env.getProperty(BULK_API_PARALLEL_KEY, boolean.class,
+        BULK_API_PARALLEL_DEFAULT);
+    perBulk = Math.max(1, env.getProperty(BULK_API_PARALLEL_PER_BULK_KEY,
+        int.class, BULK_API_PARALLEL_PER_BULK_DEFAULT));
+    poolSize = Math.max(1, env.getProperty(BULK_API_PARALLEL_POOL_SIZE_KEY,
+        int.class, BULK_API_PARALLEL_POOL_SIZE_DEFAULT));
+
+    if (!parallel) {
+      executor = null;
+      ownsExecutor = false;
+    } else if (appCtx.containsBean(BULK_API_EXECUTOR_BEAN_NAME)) {
+      executor = appCtx.getBean(BULK_API_EXECUTOR_BEAN_NAME, Executor.class);
+      ownsExecutor = false;
+    } else {
+      boolean virtual = "virtual".equalsIgnoreCase(env
+          .getProperty(BULK_API_PARALLEL_THREADS_KEY,
+              BULK_API_PARALLEL_THREADS_DEFAULT)
+          .trim());
+      executor = virtual ? virtualThreadExecutor(poolSize)
+          : platformThreadExecutor(poolSize);
+      ownsExecutor = true;
+    }
+
+    taskDecorator = BulkApiBeans.taskDecorator(appCtx);
+  }
+
+  /**
+   * Checks if operations run in parallel.
+   *
+   * @return true if operations run in parallel, false otherwise
+   */
+  boolean isParallel() {
+    return executor != null;
+  }
+
+  /**
+   * Returns how many operations of a bulk request run at once at most.
+   *
+   * @param operationCount
+   *          the number of operations of the bulk request
+   * @return the concurrency of the bulk request
+   */
+  int concurrencyOf(int operationCount) {
+    if (operationCount <= 0) return 0;
+    return isParallel() ? Math.min(perBulk, operationCount) : 1;
+  }
+
+  /**
+   * Runs all given tasks and returns their outcomes in the same order. The
+   * first failure cancels all unfinished tasks and is rethrown.
+   *
+   * @param tasks
+   *          a list of {@link Callable}s
+   * @return a list of outcomes
+   */
+  <T> List<T> invokeAll(List<Callable<T>> tasks) {
+    return invokeAll(tasks, null, null);
+  }
+
+  /**
+   * Runs all given tasks like {@link #invokeAll(List)}, but stops waiting for
+   * a task once its deadline passes. A task past its deadline is cancelled,
+   * and its outcome is given by the timed out function instead.<br>
+   * <br>
+   * Even if operations don't run in parallel, tasks with deadlines run on a
+   * helper thread, so the caller can stop waiting for them. Helper threads are
+   * shared by all bulk requests and bounded by the pool size. A task holds its
+   * permit until it really stops running, so a cancelled task which ignores
+   * interruption still counts against the parallelism of its bulk request.
+   *
+   * @param tasks
+   *          a list of {@link Callable}s
+   * @param deadlines
+   *          the {@link System#nanoTime()} deadline of each task, 0 if a task
+   *          has no deadline, or null if no task has a deadline
+   * @param timedOut
+   *          returns the outcome of a timed out task by its index
+   * @return a list of outcomes
+   */
+  <T> List<T> invokeAll(List<Callable<T>> tasks, long[] deadlines,
+      IntFunction<T> timedOut) {
+    List<T> outcomes = new ArrayList<>(tasks.size());
+    if (deadlines == null && (executor == null || tasks.size() <= 1)) {
+      for (Callable<T> task : tasks) {
+        outcomes.add(call(task));
+      }
+      return outcomes;
+    }
+
+    boolean parallel = executor != null;
+    Executor target = parallel ? executor : timeoutExecutor();
+    Semaphore permits = new Semaphore(parallel ? perBulk : 1);
+    BulkThreadContext context = BulkThreadContext.capture();
+    List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+    try {
+      for (int i = 0; i < tasks.size(); i++) {
+        long deadline = deadlines == null ? 0 : deadlines[i];
+        FutureTask<T> future = null;
+        if (acquire(permits, deadline)) {
+          future = newTask(context.wrap(tasks.get(i)), permits);
+          target.execute(
+              taskDecorator == null ? future : taskDecorator.decorate(future));
+        }
+        futures.add(future);
+
+        if (!parallel) outcomes.add(await(future, deadline, i, timedOut));
+      }
+
+      if (parallel) {
+        for (int i = 0; i < futures.size(); i++) {
+          long deadline = deadlines == null ? 0 : deadlines[i];
+          outcomes.add(await(futures.get(i), deadline, i, timedOut));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BulkApiException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Bulk request has been interrupted");
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (CancellationException e) {
+      throw new BulkApiException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Bulk request has been cancelled");
+    } finally {
+      for (FutureTask<T> future : futures) {
+        if (future != null) future.cancel(true);
+      }
+    }
+
+    return outcomes;
+  }
+
+  private static <T> FutureTask<T> newTask(Callable<T> task,
+      Semaphore permits) {
+    return new FutureTask<T>(task) {
+
+      @Override
+      public void run() {
+        try {
+          super.run();
+        } finally {
+          permits.release();
+        }
+      }
+
+    };
+  }
+
+  private static boolean acquire(Semaphore permits, long deadline)
+      throws InterruptedException {
+    if (deadline == 0) {
+      permits.acquire();
+      return true;
+    }
+
+    long remaining = deadline - System.nanoTime();
+    return remaining > 0 && permits.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+  }
+
+  private static <T> T await(FutureTask<T> future, long deadline, int idx,
+      IntFunction<T> timedOut) throws InterruptedException, ExecutionException {
+    if (future == null) return timedOut.apply(idx);
+    if (deadline == 0) return future.get();
+
+    try {
+      return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      return timedOut.apply(idx);
+    }
+  }
+
+  private ExecutorService timeoutExecutor() {
+    if (timeoutExecutor == null) {
+      synchronized (this) {
+        if (timeoutExecutor == null) {
+          ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize,
+              60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+              daemonThreadFactory("bulk-api-timeout-"));
+          pool.allowCoreThreadTimeOut(true);
+          timeoutExecutor = pool;
+        }
+      }
+    }
+    return timeoutExecutor;
+  }
+
+  /**
+   * Shuts down the built-in pools.
+   */
+  void shutdown() {
+    if (ownsExecutor) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+    if (timeoutExecutor != null) timeoutExecutor.shutdownNow();
+  }
+
+  private static <T> T call(Callable<T> task) {
+    try {
+      return task.call();
+    } catch (Exception e) {
+      throw rethrow(e);
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if (t instanceof RuntimeException) throw (RuntimeException) t;
+    if (t instanceof Error) throw (Error) t;
+    throw new IllegalStateException(t);
+  }
+
+  /**
+   * Creates a fixed pool of daemon platform threads.
+   *
+   * @param poolSize
+   *          the number of threads
+   * @return an {@link ExecutorService}
+   */
+  static ExecutorService platformThreadExecutor(int poolSize) {
+    return platformThreadExecutor(poolSize, Integer.MAX_VALUE, "bulk-api-");
+  }
+
+  /**
+   * Creates a fixed pool of daemon platform threads, which rejects tasks by
+   * {@link RejectedExecutionException} once given number of tasks are waiting
+   * for a thread.
+   *
+   * @param poolSize
+   *          the number of threads
+   * @param queueCapacity
+   *          the max number of waiting tasks
+   * @param threadNamePrefix
+   *          the name prefix of threads
+   * @return an {@link ExecutorService}
+   */
+  static ExecutorService platformThreadExecutor(int poolSize,
+      int queueCapacity, String threadNamePrefix) {
+    return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        queueCapacity == Integer.MAX_VALUE ? new LinkedBlockingQueue<>()
+            : new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+        daemonThreadFactory(threadNamePrefix));
+  }
+
+  /**
+   * Creates an {@link ExecutorService} which starts a virtual thread per task
+   * and lets at most given number of tasks run at once. Falls back to
+   * {@link #platformThreadExecutor(int)} if the runtime has no virtual threads.
+   *
+   * @param maxConcurrency
+   *          the max number of tasks running at once
+   * @return an {@link ExecutorService}
+   */
+  static ExecutorService virtualThreadExecutor(int maxConcurrency) {
+    return virtualThreadExecutor(maxConcurrency, Integer.MAX_VALUE,
+        "bulk-api-");
+  }
+
+  /**
+   * Creates an {@link ExecutorService} like
+   * {@link #virtualThreadExecutor(int)}, which rejects tasks by
+   * {@link RejectedExecutionException} once given number of tasks are waiting
+   * to run.
+   *
+   * @param maxConcurrency
+   *          the max number of tasks running at once
+   * @param queueCapacity
+   *          the max number of waiting tasks
+   * @param threadNamePrefix
+   *          the name prefix of fallback platform threads
+   * @return an {@link ExecutorService}
+   */
+  static ExecutorService virtualThreadExecutor(int maxConcurrency,
+      int queueCapacity, String threadNamePrefix) {
+    ExecutorService virtualThreads;
+    try {
+      virtualThreads = (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.warn("Virtual threads are not supported by this runtime, "
+          + "falling back to platform threads");
+      return platformThreadExecutor(maxConcurrency, queueCapacity,
+          threadNamePrefix);
+    }
+
+    return new VirtualThreadExecutor(virtualThreads, maxConcurrency,
+        queueCapacity);
+  }
+
+  private static final class VirtualThreadExecutor
+      extends AbstractExecutorService {
+
+    private final ExecutorService virtualThreads;
+    private final Semaphore running;
+    private final Semaphore accepted;
+
+    VirtualThreadExecutor(ExecutorService virtualThreads, int maxConcurrency,
+        int queueCapacity) {
+      this.virtualThreads = virtualThreads;
+      running = new Semaphore(maxConcurrency);
+      accepted = new Semaphore(queueCapacity == Integer.MAX_VALUE
+          ? Integer.MAX_VALUE : maxConcurrency + Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      if (!accepted.tryAcquire()) {
+        throw new RejectedExecutionException("Too many tasks are waiting");
+      }
+      try {
+        virtualThreads.execute(() -> {
+          try {
+            running.acquireUninterruptibly();
+            try {
+              command.run();
+            } finally {
+              running.release();
+            }
+          } finally {
+            accepted.release();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        accepted.release();
+        throw e;
+      }
+    }
+
+    @Override
+    public void shutdown() {
+      virtualThreads.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return virtualThreads.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return virtualThreads.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return virtualThreads.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit)
+        throws InterruptedException {
+      return virtualThreads.awaitTermination(timeout, unit);
+    }
+
+  }
+
+  static ThreadFactory daemonThreadFactory(final String prefix) {
+    final AtomicInteger counter = new AtomicInteger();
+    return r -> {
+      Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+}
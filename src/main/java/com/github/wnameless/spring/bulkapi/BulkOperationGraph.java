@@ -0,0 +1,198 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ *
+ * {@link BulkOperationGraph} is the dependency graph of all operations in a
+ * {@link BulkRequest}. An operation depends on every operation listed in its
+ * dependsOn and on every operation referred by its result references.
+ *
+ */
+final class BulkOperationGraph {
+
+  private final int size;
+  private final List<Set<Integer>> dependencies = new ArrayList<>();
+  private final List<Set<Integer>> dependents = new ArrayList<>();
+  private final boolean independent;
+
+  /**
+   * Creates a {@link BulkOperationGraph}.
+   *
+   * @param ops
+   *          all operations of a {@link BulkRequest}
+   * @throws BulkApiException
+   *           if any ID is duplicated or unknown, or any dependency is cyclic
+   */
+  BulkOperationGraph(List<BulkOperation> ops) {
+    size = ops.size();
+
+    Map<String, Integer> indices = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      String id = ops.get(i).getId();
+      if (id == null) continue;
+      if (indices.put(id, i) != null) {
+        throw new BulkApiException(UNPROCESSABLE_ENTITY,
+            "Duplicated operation ID(" + id + ") exists in this bulk request");
+      }
+    }
+
+    boolean noEdge = true;
+    for (int i = 0; i < size; i++) {
+      dependents.add(new LinkedHashSet<Integer>());
+    }
+    for (int i = 0; i < size; i++) {
+      BulkOperation op = ops.get(i);
+      Set<String> ids = new LinkedHashSet<>();
+      if (op.getDependsOn() != null) ids.addAll(op.getDependsOn());
+      ids.addAll(BulkResultReferences.referredIds(op));
+
+      Set<Integer> deps = new LinkedHashSet<>();
+      for (String id : ids) {
+        Integer idx = indices.get(id);
+        if (idx == null) {
+          throw new BulkApiException(UNPROCESSABLE_ENTITY, "Unknown operation ID("
+              + id + ") exists in this bulk request");
+        }
+        deps.add(idx);
+        dependents.get(idx).add(i);
+        noEdge = false;
+      }
+      dependencies.add(deps);
+    }
+    independent = noEdge;
+
+    waves();
+  }
+
+  /**
+   * Checks if no operation depends on another one.
+   *
+   * @return true if all operations are independent, false otherwise
+   */
+  boolean isIndependent() {
+    return independent;
+  }
+
+  /**
+   * Returns the indices of operations which given operation depends on.
+   *
+   * @param idx
+   *          the index of an operation
+   * @return a set of operation indices
+   */
+  Set<Integer> dependenciesOf(int idx) {
+    return Collections.unmodifiableSet(dependencies.get(idx));
+  }
+
+  /**
+   * Groups operations into waves. Operations of the same wave only depend on
+   * operations of earlier waves, so they can run concurrently.
+   *
+   * @return a list of waves, each wave contains operation indices in request
+   *         order
+   * @throws BulkApiException
+   *           if any dependency is cyclic
+   */
+  List<List<Integer>> waves() {
+    List<List<Integer>> waves = new ArrayList<>();
+    if (independent) {
+      List<Integer> wave = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        wave.add(i);
+      }
+      waves.add(wave);
+      return waves;
+    }
+
+    int[] pending = pendingCounts();
+    List<Integer> ready = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (pending[i] == 0) ready.add(i);
+    }
+
+    int scheduled = 0;
+    while (!ready.isEmpty()) {
+      waves.add(ready);
+      scheduled += ready.size();
+
+      TreeSet<Integer> next = new TreeSet<>();
+      for (int idx : ready) {
+        for (int dependent : dependents.get(idx)) {
+          if (--pending[dependent] == 0) next.add(dependent);
+        }
+      }
+      ready = new ArrayList<>(next);
+    }
+
+    if (scheduled != size) {
+      throw new BulkApiException(UNPROCESSABLE_ENTITY,
+          "Cyclic operation dependencies exist in this bulk request");
+    }
+    return waves;
+  }
+
+  /**
+   * Orders operations one by one. Operations keep their request order unless
+   * they depend on a later operation.
+   *
+   * @return a list of single-operation waves
+   */
+  List<List<Integer>> sequence() {
+    List<List<Integer>> sequence = new ArrayList<>();
+    if (independent) {
+      sequence.addAll(waves());
+      return sequence;
+    }
+
+    int[] pending = pendingCounts();
+    TreeSet<Integer> ready = new TreeSet<>();
+    for (int i = 0; i < size; i++) {
+      if (pending[i] == 0) ready.add(i);
+    }
+
+    while (!ready.isEmpty()) {
+      int idx = ready.pollFirst();
+      sequence.add(Collections.singletonList(idx));
+      for (int dependent : dependents.get(idx)) {
+        if (--pending[dependent] == 0) ready.add(dependent);
+      }
+    }
+    return sequence;
+  }
+
+  private int[] pendingCounts() {
+    int[] pending = new int[size];
+    for (int i = 0; i < size; i++) {
+      pending[i] = dependencies.get(i).size();
+    }
+    return pending;
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.net.URI;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ *
+ * {@link BulkOperationPlan} is the immutable outcome of validating a
+ * {@link BulkOperation}, so executing the operation needs no more routing
+ * lookup, {@link URI} parsing or {@link URITransformer} call.<br>
+ * <br>
+ * The plan of an operation whose URL contains result references is deferred,
+ * it is only computed after the references are resolved. References in params
+ * and headers don't change the route, their resolved operation takes the place
+ * of the original one by {@link #withOperation(BulkOperation)}.
+ *
+ */
+final class BulkOperationPlan {
+
+  private final BulkOperation operation;
+  private final HttpMethod method;
+  private final String path;
+  private final URI uri;
+  private final boolean requestBody;
+  private final RoutingPath routingPath;
+
+  BulkOperationPlan(BulkOperation operation, HttpMethod method, String path,
+      URI uri, boolean requestBody, RoutingPath routingPath) {
+    if (uri == null) throw new NullPointerException();
+
+    this.operation = operation;
+    this.method = method;
+    this.path = path;
+    this.uri = uri;
+    this.requestBody = requestBody;
+    this.routingPath = routingPath;
+  }
+
+  private BulkOperationPlan(BulkOperation operation) {
+    this.operation = operation;
+    method = null;
+    path = null;
+    uri = null;
+    requestBody = false;
+    routingPath = null;
+  }
+
+  /**
+   * Creates a deferred {@link BulkOperationPlan} of given operation.
+   *
+   * @param operation
+   *          a {@link BulkOperation} which contains result references
+   * @return a deferred {@link BulkOperationPlan}
+   */
+  static BulkOperationPlan deferred(BulkOperation operation) {
+    return new BulkOperationPlan(operation);
+  }
+
+  /**
+   * Returns a copy of this plan for given operation, ex: the operation whose
+   * result references in params and headers are resolved.
+   *
+   * @param operation
+   *          a {@link BulkOperation} of the same URL and method
+   * @return a {@link BulkOperationPlan}
+   */
+  BulkOperationPlan withOperation(BulkOperation operation) {
+    if (isDeferred()) return deferred(operation);
+    return new BulkOperationPlan(operation, method, path, uri, requestBody,
+        routingPath);
+  }
+
+  boolean isDeferred() {
+    return uri == null;
+  }
+
+  BulkOperation getOperation() {
+    return operation;
+  }
+
+  HttpMethod getMethod() {
+    return method;
+  }
+
+  /**
+   * Returns the urlified path of the operation without the query string.
+   *
+   * @return a path
+   */
+  String getPath() {
+    return path;
+  }
+
+  URI getUri() {
+    return uri;
+  }
+
+  boolean hasRequestBody() {
+    return requestBody;
+  }
+
+  RoutingPath getRoutingPath() {
+    return routingPath;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{method=" + method + ", path=" + path
+        + ", uri=" + uri + ", requestBody=" + requestBody + "}";
+  }
+
+}
@@ -0,0 +1,369 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.DispatcherType;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+/**
+ *
+ * {@link BulkOperationRequest} is the synthetic {@link HttpServletRequest} of
+ * a {@link BulkOperation} which is dispatched in-process. Session, security
+ * principal and locale are inherited from the bulk request, but method, path,
+ * parameters, headers, body and attributes belong to the operation only.
+ *
+ */
+final class BulkOperationRequest extends HttpServletRequestWrapper {
+
+  private final String method;
+  private final String requestUri;
+  private final String servletPath;
+  private final String queryString;
+  private final StringBuffer requestUrl;
+  private final Map<String, String[]> parameters = new LinkedHashMap<>();
+  private final Map<String, String> headers = new LinkedCaseInsensitiveMap<>();
+  private final Map<String, Object> attributes = new LinkedHashMap<>();
+  private final byte[] body;
+
+  /**
+   * Creates a {@link BulkOperationRequest}.
+   *
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @param method
+   *          the HTTP method of the operation
+   * @param uri
+   *          the computed {@link URI} of the operation
+   * @param params
+   *          parameters of the operation, null if they are sent as body
+   * @param headers
+   *          headers of the operation
+   * @param body
+   *          the request body of the operation, null if absent
+   */
+  BulkOperationRequest(HttpServletRequest servReq, String method, URI uri,
+      Map<String, Object> params, Map<String, String> headers, byte[] body) {
+    super(servReq);
+    this.method = method;
+
+    String contextPath = servReq.getContextPath();
+    requestUri = uri.getRawPath();
+    String decodedPath = UriUtils.decode(requestUri, StandardCharsets.UTF_8);
+    servletPath = decodedPath.startsWith(contextPath)
+        ? decodedPath.substring(contextPath.length()) : decodedPath;
+    queryString = uri.getRawQuery();
+    requestUrl = new StringBuffer(uri.getScheme()).append("://")
+        .append(uri.getRawAuthority()).append(requestUri);
+
+    if (queryString != null) parseQueryString(queryString);
+    if (params != null) {
+      for (Entry<String, Object> param : params.entrySet()) {
+        addParameter(param.getKey(), param.getValue());
+      }
+    }
+    if (headers != null) this.headers.putAll(headers);
+
+    this.body = body;
+    if (body != null) {
+      this.headers.put(HttpHeaders.CONTENT_LENGTH,
+          String.valueOf(body.length));
+    } else {
+      this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+      this.headers.remove(HttpHeaders.CONTENT_TYPE);
+    }
+    this.headers.remove(HttpHeaders.TRANSFER_ENCODING);
+  }
+
+  private void parseQueryString(String query) {
+    for (String pair : StringUtils.delimitedListToStringArray(query, "&")) {
+      if (pair.isEmpty()) continue;
+      int idx = pair.indexOf('=');
+      String key = idx < 0 ? pair : pair.substring(0, idx);
+      String value = idx < 0 ? "" : pair.substring(idx + 1);
+      appendParameter(UriUtils.decode(key, StandardCharsets.UTF_8),
+          UriUtils.decode(value, StandardCharsets.UTF_8));
+    }
+  }
+
+  private void addParameter(String key, Object value) {
+    if (value instanceof Collection) {
+      for (Object v : (Collection<?>) value) {
+        appendParameter(key, String.valueOf(v));
+      }
+    } else if (value instanceof Object[]) {
+      for (Object v : (Object[]) value) {
+        appendParameter(key, String.valueOf(v));
+      }
+    } else {
+      appendParameter(key, value == null ? "" : String.valueOf(value));
+    }
+  }
+
+  private void appendParameter(String key, String value) {
+    String[] values = parameters.get(key);
+    if (values == null) {
+      parameters.put(key, new String[] { value });
+    } else {
+      String[] appended = new String[values.length + 1];
+      System.arraycopy(values, 0, appended, 0, values.length);
+      appended[values.length] = value;
+      parameters.put(key, appended);
+    }
+  }
+
+  @Override
+  public String getMethod() {
+    return method;
+  }
+
+  @Override
+  public String getRequestURI() {
+    return requestUri;
+  }
+
+  @Override
+  public StringBuffer getRequestURL() {
+    return new StringBuffer(requestUrl);
+  }
+
+  @Override
+  public String getServletPath() {
+    return servletPath;
+  }
+
+  @Override
+  public String getPathInfo() {
+    return null;
+  }
+
+  @Override
+  public String getPathTranslated() {
+    return null;
+  }
+
+  @Override
+  public String getQueryString() {
+    return queryString;
+  }
+
+  @Override
+  public DispatcherType getDispatcherType() {
+    return DispatcherType.REQUEST;
+  }
+
+  @Override
+  public String getParameter(String name) {
+    String[] values = parameters.get(name);
+    return values == null ? null : values[0];
+  }
+
+  @Override
+  public Map<String, String[]> getParameterMap() {
+    return Collections.unmodifiableMap(parameters);
+  }
+
+  @Override
+  public Enumeration<String> getParameterNames() {
+    return Collections.enumeration(parameters.keySet());
+  }
+
+  @Override
+  public String[] getParameterValues(String name) {
+    return parameters.get(name);
+  }
+
+  @Override
+  public String getHeader(String name) {
+    return headers.get(name);
+  }
+
+  @Override
+  public Enumeration<String> getHeaders(String name) {
+    String value = headers.get(name);
+    List<String> values = new ArrayList<>();
+    if (value != null) values.add(value);
+    return Collections.enumeration(values);
+  }
+
+  @Override
+  public Enumeration<String> getHeaderNames() {
+    return Collections.enumeration(headers.keySet());
+  }
+
+  @Override
+  public int getIntHeader(String name) {
+    String value = headers.get(name);
+    return value == null ? -1 : Integer.parseInt(value);
+  }
+
+  @Override
+  public long getDateHeader(String name) {
+    String value = headers.get(name);
+    if (value == null) return -1L;
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.set(name, value);
+    return httpHeaders.getFirstDate(name);
+  }
+
+  @Override
+  public String getContentType() {
+    return headers.get(HttpHeaders.CONTENT_TYPE);
+  }
+
+  @Override
+  public int getContentLength() {
+    return body == null ? -1 : body.length;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return getContentLength();
+  }
+
+  @Override
+  public String getCharacterEncoding() {
+    String contentType = getContentType();
+    if (contentType != null) {
+      int idx = contentType.toLowerCase().indexOf("charset=");
+      if (idx >= 0) return contentType.substring(idx + 8).trim();
+    }
+    return null;
+  }
+
+  @Override
+  public void setCharacterEncoding(String env)
+      throws UnsupportedEncodingException {}
+
+  @Override
+  public ServletInputStream getInputStream() {
+    final ByteArrayInputStream in =
+        new ByteArrayInputStream(body == null ? new byte[0] : body);
+
+    return new ServletInputStream() {
+
+      @Override
+      public int read() {
+        return in.read();
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) {
+        return in.read(b, off, len);
+      }
+
+      @Override
+      public boolean isFinished() {
+        return in.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        throw new UnsupportedOperationException();
+      }
+
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() throws UnsupportedEncodingException {
+    String encoding = getCharacterEncoding();
+    Charset charset =
+        encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  @Override
+  public Enumeration<String> getAttributeNames() {
+    return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+  }
+
+  @Override
+  public void setAttribute(String name, Object o) {
+    if (o == null) {
+      attributes.remove(name);
+    } else {
+      attributes.put(name, o);
+    }
+  }
+
+  @Override
+  public void removeAttribute(String name) {
+    attributes.remove(name);
+  }
+
+  @Override
+  public boolean isAsyncSupported() {
+    return false;
+  }
+
+  @Override
+  public boolean isAsyncStarted() {
+    return false;
+  }
+
+  @Override
+  public AsyncContext startAsync() {
+    throw new IllegalStateException(
+        "Async processing is not supported by in-process bulk operations");
+  }
+
+  @Override
+  public AsyncContext startAsync(ServletRequest servletRequest,
+      ServletResponse servletResponse) {
+    return startAsync();
+  }
+
+}
@@ -0,0 +1,397 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ *
+ * {@link BulkOperationResponse} is the synthetic {@link HttpServletResponse} of
+ * a {@link BulkOperation} which is dispatched in-process. It buffers status,
+ * headers and body in memory and never touches the bulk response.
+ *
+ */
+final class BulkOperationResponse implements HttpServletResponse {
+
+  private final Map<String, List<String>> headers =
+      new LinkedCaseInsensitiveMap<>();
+  private final Content content = new Content();
+
+  private int status = HttpServletResponse.SC_OK;
+  private String errorMessage;
+  private String characterEncoding;
+  private Locale locale = Locale.getDefault();
+  private ServletOutputStream outputStream;
+  private PrintWriter writer;
+
+  /**
+   * {@link Content} buffers the body, and grows to the declared content length
+   * at once, up to {@link #MAX_PRESIZE} bytes. A declared content length is
+   * not trusted any further, larger bodies grow the buffer as they are
+   * written.
+   */
+  private static final class Content extends ByteArrayOutputStream {
+
+    private static final int MAX_PRESIZE = 256 * 1024;
+
+    void ensureCapacity(long capacity) {
+      int size = (int) Math.min(capacity, MAX_PRESIZE);
+      if (size > buf.length) buf = Arrays.copyOf(buf, size);
+    }
+
+    /**
+     * Returns the buffer itself if it is filled up exactly, ex: by a body of
+     * the declared content length.
+     */
+    @Override
+    public synchronized byte[] toByteArray() {
+      return count == buf.length ? buf : super.toByteArray();
+    }
+
+  }
+
+  /**
+   * Returns the buffered outcome as a {@link ResponseEntity}.
+   *
+   * @return a {@link ResponseEntity}
+   */
+  ResponseEntity<byte[]> toResponseEntity() {
+    flushWriter();
+
+    HttpHeaders httpHeaders = new HttpHeaders();
+    for (Entry<String, List<String>> header : headers.entrySet()) {
+      httpHeaders.put(header.getKey(), new ArrayList<>(header.getValue()));
+    }
+
+    byte[] body = content.size() == 0 && errorMessage != null
+        ? errorMessage.getBytes(charset()) : content.toByteArray();
+    return ResponseEntity.status(status).headers(httpHeaders).body(body);
+  }
+
+  /**
+   * Returns the {@link Charset} of the buffered body.
+   *
+   * @return a {@link Charset}
+   */
+  Charset charset() {
+    try {
+      if (characterEncoding != null) return Charset.forName(characterEncoding);
+
+      String contentType = getContentType();
+      if (contentType != null) {
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        if (charset != null) return charset;
+      }
+    } catch (RuntimeException e) {}
+    return StandardCharsets.UTF_8;
+  }
+
+  private void flushWriter() {
+    if (writer != null) writer.flush();
+  }
+
+  @Override
+  public int getStatus() {
+    return status;
+  }
+
+  @Override
+  public void setStatus(int sc) {
+    status = sc;
+  }
+
+  @Override
+  @Deprecated
+  public void setStatus(int sc, String sm) {
+    status = sc;
+    errorMessage = sm;
+  }
+
+  @Override
+  public void sendError(int sc) {
+    sendError(sc, HttpStatus.valueOf(sc).getReasonPhrase());
+  }
+
+  @Override
+  public void sendError(int sc, String msg) {
+    resetBuffer();
+    status = sc;
+    errorMessage = msg;
+  }
+
+  @Override
+  public void sendRedirect(String location) {
+    resetBuffer();
+    status = HttpServletResponse.SC_FOUND;
+    setHeader(HttpHeaders.LOCATION, location);
+  }
+
+  @Override
+  public void addCookie(Cookie cookie) {
+    StringBuilder sb = new StringBuilder(cookie.getName()).append('=')
+        .append(cookie.getValue() == null ? "" : cookie.getValue());
+    if (cookie.getPath() != null) sb.append("; Path=").append(cookie.getPath());
+    if (cookie.getDomain() != null) {
+      sb.append("; Domain=").append(cookie.getDomain());
+    }
+    if (cookie.getMaxAge() >= 0) {
+      sb.append("; Max-Age=").append(cookie.getMaxAge());
+    }
+    if (cookie.getSecure()) sb.append("; Secure");
+    if (cookie.isHttpOnly()) sb.append("; HttpOnly");
+    addHeader(HttpHeaders.SET_COOKIE, sb.toString());
+  }
+
+  @Override
+  public String encodeURL(String url) {
+    return url;
+  }
+
+  @Override
+  public String encodeRedirectURL(String url) {
+    return url;
+  }
+
+  @Override
+  @Deprecated
+  public String encodeUrl(String url) {
+    return url;
+  }
+
+  @Override
+  @Deprecated
+  public String encodeRedirectUrl(String url) {
+    return url;
+  }
+
+  @Override
+  public boolean containsHeader(String name) {
+    return headers.containsKey(name);
+  }
+
+  @Override
+  public String getHeader(String name) {
+    List<String> values = headers.get(name);
+    return values == null || values.isEmpty() ? null : values.get(0);
+  }
+
+  @Override
+  public Collection<String> getHeaders(String name) {
+    List<String> values = headers.get(name);
+    return values == null ? Collections.<String>emptyList()
+        : Collections.unmodifiableList(values);
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return Collections.unmodifiableSet(headers.keySet());
+  }
+
+  @Override
+  public void setHeader(String name, String value) {
+    List<String> values = new ArrayList<>();
+    values.add(value);
+    headers.put(name, values);
+  }
+
+  @Override
+  public void addHeader(String name, String value) {
+    List<String> values = headers.get(name);
+    if (values == null) {
+      setHeader(name, value);
+    } else {
+      values.add(value);
+    }
+  }
+
+  @Override
+  public void setIntHeader(String name, int value) {
+    setHeader(name, String.valueOf(value));
+  }
+
+  @Override
+  public void addIntHeader(String name, int value) {
+    addHeader(name, String.valueOf(value));
+  }
+
+  @Override
+  public void setDateHeader(String name, long date) {
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setDate(name, date);
+    setHeader(name, httpHeaders.getFirst(name));
+  }
+
+  @Override
+  public void addDateHeader(String name, long date) {
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setDate(name, date);
+    addHeader(name, httpHeaders.getFirst(name));
+  }
+
+  @Override
+  public String getContentType() {
+    return getHeader(HttpHeaders.CONTENT_TYPE);
+  }
+
+  @Override
+  public void setContentType(String type) {
+    if (type == null) {
+      headers.remove(HttpHeaders.CONTENT_TYPE);
+      return;
+    }
+
+    int idx = type.toLowerCase().indexOf("charset=");
+    if (idx >= 0) {
+      characterEncoding = type.substring(idx + 8).trim();
+    } else if (characterEncoding != null) {
+      type = type + ";charset=" + characterEncoding;
+    }
+    setHeader(HttpHeaders.CONTENT_TYPE, type);
+  }
+
+  @Override
+  public String getCharacterEncoding() {
+    return characterEncoding == null ? charset().name() : characterEncoding;
+  }
+
+  @Override
+  public void setCharacterEncoding(String charset) {
+    characterEncoding = charset;
+    String contentType = getContentType();
+    if (contentType != null && !contentType.toLowerCase().contains("charset=")) {
+      setHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + charset);
+    }
+  }
+
+  @Override
+  public void setContentLength(int len) {
+    setContentLengthLong(len);
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(len));
+    content.ensureCapacity(len);
+  }
+
+  @Override
+  public Locale getLocale() {
+    return locale;
+  }
+
+  @Override
+  public void setLocale(Locale loc) {
+    if (loc != null) locale = loc;
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() {
+    if (outputStream == null) {
+      outputStream = new ServletOutputStream() {
+
+        @Override
+        public void write(int b) {
+          content.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+          content.write(b, off, len);
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+          throw new UnsupportedOperationException();
+        }
+
+      };
+    }
+    return outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() {
+    if (writer == null) {
+      writer =
+          new PrintWriter(new OutputStreamWriter(getOutputStream(), charset()));
+    }
+    return writer;
+  }
+
+  @Override
+  public void flushBuffer() {
+    flushWriter();
+  }
+
+  @Override
+  public boolean isCommitted() {
+    return false;
+  }
+
+  @Override
+  public int getBufferSize() {
+    return content.size();
+  }
+
+  @Override
+  public void setBufferSize(int size) {}
+
+  @Override
+  public void reset() {
+    resetBuffer();
+    headers.clear();
+    status = HttpServletResponse.SC_OK;
+    errorMessage = null;
+    characterEncoding = null;
+  }
+
+  @Override
+  public void resetBuffer() {
+    flushWriter();
+    content.reset();
+  }
+
+}
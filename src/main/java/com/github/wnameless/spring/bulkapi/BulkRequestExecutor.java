@@ -0,0 +1,155 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_POOL_SIZE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_POOL_SIZE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_QUEUE_CAPACITY_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_ASYNC_QUEUE_CAPACITY_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_KEY;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * {@link BulkRequestExecutor} runs whole bulk requests away from the servlet
+ * container threads. Its pool is separated from the operation pool of
+ * {@link BulkOperationExecutor}, so a bulk request never waits for a thread
+ * which is held by another bulk request waiting for its operations.<br>
+ * <br>
+ * The pool size is set by {@code spring.bulk.api.async.pool-size}, and it
+ * uses virtual threads if {@code spring.bulk.api.parallel.threads} is
+ * {@code virtual}. Once {@code spring.bulk.api.async.queue-capacity} bulk
+ * requests are waiting for a thread, new ones are rejected with 503.<br>
+ * <br>
+ * A bulk request runs with the request attributes, locale and security
+ * context of the thread which submitted it, and a {@link TaskDecorator} bean
+ * is applied to it as well.
+ *
+ */
+final class BulkRequestExecutor {
+
+  private final Environment env;
+  private final TaskDecorator taskDecorator;
+
+  private volatile ExecutorService executor;
+
+  BulkRequestExecutor(ApplicationContext appCtx) {
+    env = appCtx.getEnvironment();
+    taskDecorator = BulkApiBeans.taskDecorator(appCtx);
+  }
+
+  /**
+   * Runs given task asynchronously. Cancelling the returned
+   * {@link CompletableFuture} interrupts the running task.
+   *
+   * @param task
+   *          a {@link Callable}
+   * @return a {@link CompletableFuture}
+   */
+  <T> CompletableFuture<T> submit(Callable<T> task) {
+    CancellableFuture<T> future = new CancellableFuture<>();
+    Callable<T> contextualTask = BulkThreadContext.capture().wrap(task);
+    FutureTask<T> futureTask = new FutureTask<T>(contextualTask) {
+
+      @Override
+      protected void done() {
+        if (isCancelled()) {
+          future.cancel(false);
+          return;
+        }
+        try {
+          future.complete(get());
+        } catch (ExecutionException e) {
+          future.completeExceptionally(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          future.completeExceptionally(e);
+        }
+      }
+
+    };
+    future.task = futureTask;
+
+    try {
+      executor().execute(taskDecorator == null ? futureTask
+          : taskDecorator.decorate(futureTask));
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(new BulkApiException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Bulk request has been rejected"));
+    }
+    return future;
+  }
+
+  /**
+   * Shuts down the pool.
+   */
+  void shutdown() {
+    if (executor != null) executor.shutdownNow();
+  }
+
+  private ExecutorService executor() {
+    if (executor == null) {
+      synchronized (this) {
+        if (executor == null) {
+          int poolSize = Math.max(1, env.getProperty(
+              BULK_API_ASYNC_POOL_SIZE_KEY, int.class,
+              BULK_API_ASYNC_POOL_SIZE_DEFAULT));
+          int queueCapacity = Math.max(1,
+              env.getProperty(BULK_API_ASYNC_QUEUE_CAPACITY_KEY, int.class,
+                  BULK_API_ASYNC_QUEUE_CAPACITY_DEFAULT));
+          boolean virtual = "virtual".equalsIgnoreCase(env
+              .getProperty(BULK_API_PARALLEL_THREADS_KEY,
+                  BULK_API_PARALLEL_THREADS_DEFAULT)
+              .trim());
+          executor = virtual
+              ? BulkOperationExecutor.virtualThreadExecutor(poolSize,
+                  queueCapacity, "bulk-api-async-")
+              : BulkOperationExecutor.platformThreadExecutor(poolSize,
+                  queueCapacity, "bulk-api-async-");
+        }
+      }
+    }
+    return executor;
+  }
+
+  private static final class CancellableFuture<T>
+      extends CompletableFuture<T> {
+
+    private volatile FutureTask<T> task;
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (task != null) task.cancel(true);
+      return super.cancel(mayInterruptIfRunning);
+    }
+
+  }
+
+}
@@ -0,0 +1,162 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_KEY;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.PAYLOAD_TOO_LARGE;
+import static org.springframework.http.HttpStatus.UNSUPPORTED_MEDIA_TYPE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link BulkRequestReader} reads a {@link BulkRequest} from the body of a
+ * bulk request with a pull parser, one {@link BulkOperation} at a time. A
+ * body which is not declared as JSON by its Content-Type is rejected with 415
+ * Unsupported Media Type.<br>
+ * <br>
+ * Each operation is validated by
+ * {@link BulkApiService#validateOperation(BulkOperation, HttpServletRequest)}
+ * as soon as it is read, and the {@code spring.bulk.api.limit} is enforced
+ * while parsing, so an invalid or oversized bulk request is rejected without
+ * reading the rest of its body. Operations still run only after the whole
+ * bulk request is read, so a bulk request is either rejected or executed as a
+ * whole.
+ *
+ */
+final class BulkRequestReader {
+
+  private static final String OPERATIONS_FIELD = "operations";
+
+  private final ObjectMapper objectMapper;
+  private final int limit;
+
+  BulkRequestReader(ApplicationContext appCtx) {
+    objectMapper = BulkApiBeans.objectMapper(appCtx);
+    limit = appCtx.getEnvironment().getProperty(BULK_API_LIMIT_KEY, int.class,
+        BULK_API_LIMIT_DEFAULT);
+  }
+
+  /**
+   * Reads and validates the {@link BulkRequest} in the body of given servlet
+   * request.
+   *
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @param bulkApiService
+   *          the {@link BulkApiService} which validates each operation
+   * @return a {@link BulkRequest}
+   * @throws BulkApiException
+   *           if this bulk request is not JSON, malformed, oversized or
+   *           invalid
+   */
+  BulkRequest read(HttpServletRequest servReq, BulkApiService bulkApiService) {
+    try {
+      return readOperations(servReq, bulkApiService);
+    } catch (BulkApiException e) {
+      if (bulkApiService instanceof DefaultBulkApiService) {
+        ((DefaultBulkApiService) bulkApiService).rejected(e);
+      }
+      throw e;
+    }
+  }
+
+  private BulkRequest readOperations(HttpServletRequest servReq,
+      BulkApiService bulkApiService) {
+    checkContentType(servReq.getContentType());
+
+    List<BulkOperation> ops = new ArrayList<>();
+    try (InputStream in = servReq.getInputStream();
+        JsonParser parser = objectMapper.getFactory().createParser(in)) {
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (!OPERATIONS_FIELD.equals(field) || value == JsonToken.VALUE_NULL) {
+          parser.skipChildren();
+          continue;
+        }
+
+        expect(value, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          expect(parser.currentToken(), JsonToken.START_OBJECT);
+          if (ops.size() >= limit) {
+            throw new BulkApiException(PAYLOAD_TOO_LARGE,
+                "Bulk operations exceed the limitation(" + limit + ")");
+          }
+
+          BulkOperation op = objectMapper.readValue(parser, BulkOperation.class);
+          bulkApiService.validateOperation(op, servReq);
+          ops.add(op);
+        }
+      }
+      expect(parser.currentToken(), JsonToken.END_OBJECT);
+    } catch (JsonProcessingException e) {
+      throw malformed();
+    } catch (IOException e) {
+      throw new BulkApiException(BAD_REQUEST,
+          "Bulk request can't be read: " + e.getMessage());
+    }
+
+    BulkRequest req = new BulkRequest();
+    req.setOperations(ops);
+    return req;
+  }
+
+  private static void checkContentType(String contentType) {
+    MediaType mediaType = null;
+    if (contentType != null) {
+      try {
+        mediaType = MediaType.parseMediaType(contentType);
+      } catch (InvalidMediaTypeException e) {}
+    }
+
+    if (mediaType == null || !(MediaType.APPLICATION_JSON.includes(mediaType)
+        || "application".equals(mediaType.getType())
+            && mediaType.getSubtype().endsWith("+json"))) {
+      throw new BulkApiException(UNSUPPORTED_MEDIA_TYPE,
+          "Content type(" + contentType + ") is not supported");
+    }
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected) {
+    if (actual != expected) throw malformed();
+  }
+
+  private static BulkApiException malformed() {
+    return new BulkApiException(BAD_REQUEST, "Malformed bulk request");
+  }
+
+}
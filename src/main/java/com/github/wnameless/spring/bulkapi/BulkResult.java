@@ -17,17 +17,40 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
 /**
  * 
- * {@link BulkResult} contains all details of a RESTful operation outcome.
+ * {@link BulkResult} contains all details of a RESTful operation outcome. A
+ * JSON body marked as raw JSON is embedded verbatim into the bulk response
+ * instead of being escaped as a string. A body received as bytes is kept as
+ * bytes, and only decoded if it is read as a {@link String}.
  *
  */
+@JsonPropertyOrder({ "status", "body", "headers" })
 public final class BulkResult {
 
   private int status;
   private String body;
+  private byte[] bodyBytes;
+  private Charset bodyCharset;
+  private boolean rawJson;
   private Map<String, String> headers;
 
   /**
@@ -54,7 +77,9 @@ public final class BulkResult {
    * 
    * @return a HTTP response body
    */
+  @JsonIgnore
   public String getBody() {
+    if (bodyBytes != null) return new String(bodyBytes, bodyCharset);
     return body;
   }
 
@@ -66,6 +91,100 @@ public final class BulkResult {
    */
   public void setBody(String body) {
     this.body = body;
+    bodyBytes = null;
+    bodyCharset = null;
+  }
+
+  /**
+   * Sets the encoded HTTP response body of a RESTful operation outcome.
+   * 
+   * @param body
+   *          an encoded HTTP response body, null if absent
+   * @param charset
+   *          the {@link Charset} of the body
+   */
+  void setBody(byte[] body, Charset charset) {
+    this.body = null;
+    bodyBytes = body;
+    bodyCharset = body == null ? null : charset;
+  }
+
+  /**
+   * Checks if the body is JSON which is embedded verbatim.
+   * 
+   * @return true if the body is raw JSON, false otherwise
+   */
+  @JsonIgnore
+  public boolean isRawJson() {
+    return rawJson;
+  }
+
+  /**
+   * Sets if the body is JSON which is embedded verbatim.
+   * 
+   * @param rawJson
+   *          true if the body is raw JSON, false otherwise
+   */
+  @JsonIgnore
+  public void setRawJson(boolean rawJson) {
+    this.rawJson = rawJson;
+  }
+
+  @JsonProperty("body")
+  JsonSerializable getJsonBody() {
+    if (body == null && bodyBytes == null) return null;
+
+    return new JsonSerializable.Base() {
+
+      @Override
+      public void serialize(JsonGenerator gen, SerializerProvider serializers)
+          throws IOException {
+        writeBody(gen);
+      }
+
+      @Override
+      public void serializeWithType(JsonGenerator gen,
+          SerializerProvider serializers, TypeSerializer typeSer)
+          throws IOException {
+        writeBody(gen);
+      }
+
+    };
+  }
+
+  /**
+   * Writes the body as a JSON value, verbatim if it is raw JSON or as a JSON
+   * string otherwise. An UTF-8 encoded body is written without being decoded
+   * if its bytes are valid UTF-8, malformed bytes of any other body are
+   * replaced while it is decoded.
+   * 
+   * @param gen
+   *          a {@link JsonGenerator}
+   * @throws IOException
+   *           if the body can't be written
+   */
+  void writeBody(JsonGenerator gen) throws IOException {
+    if (bodyBytes != null && StandardCharsets.UTF_8.equals(bodyCharset)
+        && Utf8Body.isValid(bodyBytes)) {
+      Utf8Body.write(gen, bodyBytes, rawJson);
+      return;
+    }
+
+    String text = getBody();
+    if (text == null) {
+      gen.writeNull();
+    } else if (rawJson) {
+      gen.writeRawValue(text);
+    } else {
+      gen.writeString(text);
+    }
+  }
+
+  @JsonSetter("body")
+  void setJsonBody(JsonNode body) {
+    rawJson = body != null && !body.isTextual() && !body.isNull();
+    this.body = body == null || body.isNull() ? null
+        : body.isTextual() ? body.textValue() : body.toString();
   }
 
   /**
@@ -87,11 +206,43 @@ public final class BulkResult {
     this.headers = headers;
   }
 
+  /**
+   * Returns the {@link Charset} of a response body by its Content-Type
+   * header. Without a charset, textual bodies and bodies of unknown type are
+   * read as UTF-8, any other body, ex: application/octet-stream, as
+   * ISO-8859-1, which keeps every byte as a char.
+   * 
+   * @param headers
+   *          response {@link HttpHeaders}
+   * @return a {@link Charset}
+   */
+  static Charset charsetOf(HttpHeaders headers) {
+    MediaType contentType = null;
+    try {
+      contentType = headers.getContentType();
+      if (contentType != null && contentType.getCharset() != null) {
+        return contentType.getCharset();
+      }
+    } catch (RuntimeException e) {}
+    return contentType == null || isTextual(contentType)
+        ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+  }
+
+  private static boolean isTextual(MediaType contentType) {
+    String subtype = contentType.getSubtype().toLowerCase();
+    return contentType.getType().equalsIgnoreCase("text")
+        || subtype.contains("json") || subtype.contains("xml")
+        || subtype.endsWith("javascript")
+        || subtype.equals("x-www-form-urlencoded");
+  }
+
   @Override
   public int hashCode() {
     int result = 27;
     result = 31 ^ result + status;
+    String body = getBody();
     result = 31 ^ result + ((body == null) ? 0 : body.hashCode());
+    result = 31 ^ result + (rawJson ? 1 : 0);
     result = 31 ^ result + ((headers == null) ? 0 : headers.hashCode());
     return result;
   }
@@ -102,15 +253,17 @@ public final class BulkResult {
     if (obj == null) return false;
     if (!(obj instanceof BulkResult)) return false;
     BulkResult o = (BulkResult) obj;
+    String body = getBody();
     return status == o.status
-        && (body == null ? o.body == null : body.equals(o.body))
+        && (body == null ? o.getBody() == null : body.equals(o.getBody()))
+        && rawJson == o.rawJson
         && (headers == null ? o.headers == null : headers.equals(o.headers));
   }
 
   @Override
   public String toString() {
-    return getClass().getSimpleName() + "{status=" + status + ", body=" + body
-        + ", headers=" + headers + "}";
+    return getClass().getSimpleName() + "{status=" + status + ", body=" + getBody()
+        + ", rawJson=" + rawJson + ", headers=" + headers + "}";
   }
 
 }
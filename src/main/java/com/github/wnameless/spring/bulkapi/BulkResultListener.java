@@ -0,0 +1,49 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+/**
+ * 
+ * {@link BulkResultListener} receives each {@link BulkResult} of a bulk
+ * request as soon as its operation finishes, so results can be written out
+ * without collecting a whole {@link BulkResponse} first.<br>
+ * <br>
+ * Results of parallel operations may arrive in any order and from different
+ * threads, but never concurrently.
+ *
+ */
+public interface BulkResultListener {
+
+  /**
+   * Called once after the bulk request is validated and before any operation
+   * runs. A bulk request which fails before this point is rejected as a
+   * whole.
+   */
+  default void onStart() {}
+
+  /**
+   * Called when a non-silent operation finishes.
+   * 
+   * @param index
+   *          the index of the operation in the {@link BulkRequest}
+   * @param result
+   *          a {@link BulkResult}
+   */
+  void onResult(int index, BulkResult result);
+
+}
@@ -0,0 +1,246 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriUtils;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link BulkResultReferences} resolves result references of a
+ * {@link BulkOperation}. A result reference looks like
+ * {@code {result=<id>:<json-pointer>}} and is replaced by the value which the
+ * JSON pointer points to in the response body of the operation with given ID,
+ * ex: {@code {result=create-user:/id}}.<br>
+ * <br>
+ * References can be placed in the URL, header values and parameter values of
+ * an operation. A parameter value which consists of a single reference takes
+ * the JSON type of the referred value, otherwise the referred value is
+ * embedded as text.
+ *
+ */
+final class BulkResultReferences {
+
+  private static final Pattern REFERENCE =
+      Pattern.compile("\\{result=([^:{}]+):([^{}]*)\\}");
+
+  private final ObjectMapper objectMapper;
+  private final Function<String, ResponseEntity<byte[]>> results;
+  private final Map<String, JsonNode> bodies = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a {@link BulkResultReferences}.
+   *
+   * @param objectMapper
+   *          an {@link ObjectMapper} to parse response bodies
+   * @param results
+   *          looks up the outcome of an operation by its ID
+   */
+  BulkResultReferences(ObjectMapper objectMapper,
+      Function<String, ResponseEntity<byte[]>> results) {
+    this.objectMapper = objectMapper;
+    this.results = results;
+  }
+
+  /**
+   * Checks if given text contains any result reference.
+   *
+   * @param text
+   *          any text
+   * @return true if any result reference exists, false otherwise
+   */
+  static boolean hasReferences(String text) {
+    return text != null && text.contains("{result=")
+        && REFERENCE.matcher(text).find();
+  }
+
+  /**
+   * Returns all operation IDs referred by given operation.
+   *
+   * @param op
+   *          a {@link BulkOperation}
+   * @return a set of operation IDs
+   */
+  static Set<String> referredIds(BulkOperation op) {
+    Set<String> ids = new LinkedHashSet<>();
+    collectIds(op.getUrl(), ids);
+    if (op.getHeaders() != null) collectIds(op.getHeaders().values(), ids);
+    if (op.getParams() != null) collectIds(op.getParams().values(), ids);
+    return ids;
+  }
+
+  private static void collectIds(Object value, Set<String> ids) {
+    if (value instanceof String) {
+      if (!hasReferences((String) value)) return;
+      Matcher m = REFERENCE.matcher((String) value);
+      while (m.find()) {
+        ids.add(m.group(1));
+      }
+    } else if (value instanceof Map) {
+      collectIds(((Map<?, ?>) value).values(), ids);
+    } else if (value instanceof Collection) {
+      for (Object v : (Collection<?>) value) {
+        collectIds(v, ids);
+      }
+    }
+  }
+
+  /**
+   * Returns a copy of given operation whose result references are all
+   * resolved, or the operation itself if it contains no reference.
+   *
+   * @param op
+   *          a {@link BulkOperation}
+   * @return a resolved {@link BulkOperation}
+   * @throws BulkApiException
+   *           if any reference can't be resolved
+   */
+  BulkOperation resolve(BulkOperation op) {
+    if (referredIds(op).isEmpty()) return op;
+
+    BulkOperation resolved = new BulkOperation();
+    resolved.setId(op.getId());
+    resolved.setDependsOn(op.getDependsOn());
+    resolved.setMethod(op.getMethod());
+    resolved.setSilent(op.isSilent());
+    resolved.setTimeoutMs(op.getTimeoutMs());
+    resolved.setUrl(resolveText(op.getUrl(), true));
+
+    if (op.getHeaders() != null) {
+      Map<String, String> headers = new LinkedHashMap<>();
+      for (Entry<String, String> header : op.getHeaders().entrySet()) {
+        headers.put(header.getKey(), resolveText(header.getValue(), false));
+      }
+      resolved.setHeaders(headers);
+    } else {
+      resolved.setHeaders(null);
+    }
+
+    if (op.getParams() != null) {
+      Map<String, Object> params = new LinkedHashMap<>();
+      for (Entry<String, Object> param : op.getParams().entrySet()) {
+        params.put(param.getKey(), resolveValue(param.getValue()));
+      }
+      resolved.setParams(params);
+    } else {
+      resolved.setParams(null);
+    }
+
+    return resolved;
+  }
+
+  private Object resolveValue(Object value) {
+    if (value instanceof String) {
+      String text = (String) value;
+      if (!hasReferences(text)) return text;
+
+      Matcher m = REFERENCE.matcher(text);
+      if (m.matches()) {
+        try {
+          return objectMapper.treeToValue(lookup(m.group(1), m.group(2)),
+              Object.class);
+        } catch (IOException e) {
+          throw unresolvable(text);
+        }
+      }
+      return resolveText(text, false);
+    } else if (value instanceof Map) {
+      Map<Object, Object> map = new LinkedHashMap<>();
+      for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        map.put(entry.getKey(), resolveValue(entry.getValue()));
+      }
+      return map;
+    } else if (value instanceof Collection) {
+      List<Object> list = new ArrayList<>();
+      for (Object v : (Collection<?>) value) {
+        list.add(resolveValue(v));
+      }
+      return list;
+    }
+    return value;
+  }
+
+  private String resolveText(String text, boolean urlEncoded) {
+    if (!hasReferences(text)) return text;
+
+    Matcher m = REFERENCE.matcher(text);
+    StringBuffer sb = new StringBuffer();
+    while (m.find()) {
+      JsonNode node = lookup(m.group(1), m.group(2));
+      String value = node.isValueNode() ? node.asText() : node.toString();
+      if (urlEncoded) value = UriUtils.encode(value, StandardCharsets.UTF_8);
+      m.appendReplacement(sb, Matcher.quoteReplacement(value));
+    }
+    m.appendTail(sb);
+    return sb.toString();
+  }
+
+  private JsonNode lookup(String id, String pointer) {
+    String reference = "{result=" + id + ":" + pointer + "}";
+
+    JsonNode body = bodies.computeIfAbsent(id, key -> {
+      ResponseEntity<byte[]> res = results.apply(key);
+      if (res == null || res.getBody() == null) throw unresolvable(reference);
+      try {
+        Charset charset = BulkResult.charsetOf(res.getHeaders());
+        return StandardCharsets.UTF_8.equals(charset)
+            ? objectMapper.readTree(res.getBody())
+            : objectMapper.readTree(new String(res.getBody(), charset));
+      } catch (IOException e) {
+        throw unresolvable(reference);
+      }
+    });
+
+    JsonNode node;
+    try {
+      node = body.at(JsonPointer.compile(pointer));
+    } catch (IllegalArgumentException e) {
+      throw unresolvable(reference);
+    }
+    if (node == null || node.isMissingNode()) throw unresolvable(reference);
+    return node;
+  }
+
+  private static BulkApiException unresolvable(String reference) {
+    return new BulkApiException(UNPROCESSABLE_ENTITY, "Unresolvable reference("
+        + reference + ") exists in this bulk request");
+  }
+
+}
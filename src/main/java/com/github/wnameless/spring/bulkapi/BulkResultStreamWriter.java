@@ -0,0 +1,281 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_STREAMING_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_STREAMING_KEY;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link BulkResultStreamWriter} writes each {@link BulkResult} to the servlet
+ * response as a single JSON record as soon as it arrives, instead of holding
+ * all results until the bulk request is done.<br>
+ * <br>
+ * Two formats are supported: newline delimited JSON
+ * ({@code application/x-ndjson}) and JSON text sequences
+ * ({@code application/json-seq}, RFC 7464). A client asks for one of them by
+ * the {@code Accept} header, and {@code spring.bulk.api.streaming} streams all
+ * bulk responses which don't ask for {@code application/json} explicitly.<br>
+ * <br>
+ * A result record looks like
+ * {@code {"index":0,"status":200,"headers":{...},"body":"..."}}, where the
+ * index is the position of the operation in the {@link BulkRequest}. A
+ * failure after streaming has started ends the stream with an error record
+ * {@code {"error":{"status":404,"message":"..."}}}.
+ *
+ */
+final class BulkResultStreamWriter implements BulkResultListener {
+
+  /**
+   * {@link Format} lists all supported streaming formats.
+   */
+  enum Format {
+
+    NDJSON(MediaType.valueOf("application/x-ndjson")),
+    JSON_SEQ(MediaType.valueOf("application/json-seq"));
+
+    private static final byte RECORD_SEPARATOR = 0x1E;
+    private static final byte LINE_FEED = '\n';
+
+    private final MediaType mediaType;
+
+    private Format(MediaType mediaType) {
+      this.mediaType = mediaType;
+    }
+
+    MediaType getMediaType() {
+      return mediaType;
+    }
+
+    /**
+     * Returns the streaming {@link Format} of given bulk request, or null if
+     * the bulk response should not be streamed.
+     *
+     * @param servReq
+     *          the {@link HttpServletRequest} of the bulk request
+     * @param env
+     *          the Spring {@link Environment}
+     * @return a {@link Format} or null
+     */
+    static Format of(HttpServletRequest servReq, Environment env) {
+      List<MediaType> accepts;
+      try {
+        accepts =
+            MediaType.parseMediaTypes(servReq.getHeader(HttpHeaders.ACCEPT));
+      } catch (IllegalArgumentException e) {
+        accepts = Collections.emptyList();
+      }
+      MediaType.sortBySpecificityAndQuality(accepts);
+      for (MediaType accept : accepts) {
+        if (accept.isWildcardType() || accept.isWildcardSubtype()) continue;
+        for (Format format : values()) {
+          if (format.mediaType.includes(accept)) return format;
+        }
+        if (MediaType.APPLICATION_JSON.includes(accept)) return null;
+      }
+
+      String value = env.getProperty(BULK_API_STREAMING_KEY,
+          BULK_API_STREAMING_DEFAULT).trim();
+      if (value.isEmpty() || value.equalsIgnoreCase("none")) return null;
+      return Format.valueOf(value.replace('-', '_').toUpperCase());
+    }
+
+  }
+
+  private final Format format;
+  private final ObjectMapper objectMapper;
+  private final HttpServletResponse servRes;
+
+  private OutputStream out;
+
+  BulkResultStreamWriter(Format format, ObjectMapper objectMapper,
+      HttpServletResponse servRes) {
+    this.format = format;
+    this.objectMapper = objectMapper;
+    this.servRes = servRes;
+  }
+
+  /**
+   * Processes given {@link BulkRequest} by the {@link BulkApiService} and
+   * streams all results.
+   *
+   * @param bulkApiService
+   *          a {@link BulkApiService}
+   * @param req
+   *          a {@link BulkRequest}
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @throws BulkApiException
+   *           if this bulk request is invalid
+   */
+  void stream(BulkApiService bulkApiService, BulkRequest req,
+      HttpServletRequest servReq) {
+    try {
+      bulkApiService.bulk(req, withoutAccept(servReq), this);
+    } catch (UncheckedIOException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      if (out == null) throw e;
+      onError(e);
+    }
+  }
+
+  @Override
+  public void onStart() {
+    servRes.setStatus(HttpStatus.OK.value());
+    servRes.setContentType(format.getMediaType().toString());
+    servRes.setCharacterEncoding("UTF-8");
+    try {
+      out = servRes.getOutputStream();
+      servRes.flushBuffer();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void onResult(int index, BulkResult result) {
+    writeRecord(gen -> {
+      gen.writeNumberField("index", index);
+      gen.writeNumberField("status", result.getStatus());
+      gen.writeFieldName("headers");
+      writeHeaders(gen, result.getHeaders());
+      gen.writeFieldName("body");
+      result.writeBody(gen);
+    });
+  }
+
+  /**
+   * Ends the stream with an error record of given failure.
+   *
+   * @param failure
+   *          the failure of the bulk request
+   */
+  void onError(Throwable failure) {
+    int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+    String message = "Bulk request failed";
+    if (failure instanceof BulkApiException) {
+      status = ((BulkApiException) failure).getStatus().value();
+      message = ((BulkApiException) failure).getError();
+    } else if (failure instanceof HttpStatusCodeException) {
+      status = ((HttpStatusCodeException) failure).getRawStatusCode();
+      message = ((HttpStatusCodeException) failure).getResponseBodyAsString();
+    }
+
+    int errorStatus = status;
+    String errorMessage = message;
+    writeRecord(gen -> {
+      gen.writeObjectFieldStart("error");
+      gen.writeNumberField("status", errorStatus);
+      gen.writeStringField("message", errorMessage);
+      gen.writeEndObject();
+    });
+  }
+
+  /**
+   * Hides the Accept header of the bulk request, which asks for the stream
+   * format, so operations don't inherit it.
+   */
+  private static HttpServletRequest withoutAccept(HttpServletRequest servReq) {
+    return new HttpServletRequestWrapper(servReq) {
+
+      @Override
+      public String getHeader(String name) {
+        return isAccept(name) ? null : super.getHeader(name);
+      }
+
+      @Override
+      public Enumeration<String> getHeaders(String name) {
+        return isAccept(name) ? Collections.emptyEnumeration()
+            : super.getHeaders(name);
+      }
+
+      @Override
+      public Enumeration<String> getHeaderNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : Collections.list(super.getHeaderNames())) {
+          if (!isAccept(name)) names.add(name);
+        }
+        return Collections.enumeration(names);
+      }
+
+      private boolean isAccept(String name) {
+        return HttpHeaders.ACCEPT.equalsIgnoreCase(name);
+      }
+
+    };
+  }
+
+  private static void writeHeaders(JsonGenerator gen,
+      Map<String, String> headers) throws IOException {
+    if (headers == null) {
+      gen.writeNull();
+      return;
+    }
+    gen.writeStartObject();
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      gen.writeStringField(header.getKey(), header.getValue());
+    }
+    gen.writeEndObject();
+  }
+
+  private interface RecordFields {
+
+    void write(JsonGenerator gen) throws IOException;
+
+  }
+
+  private void writeRecord(RecordFields fields) {
+    try {
+      if (format == Format.JSON_SEQ) out.write(Format.RECORD_SEPARATOR);
+      JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+      gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      gen.writeStartObject();
+      fields.write(gen);
+      gen.writeEndObject();
+      gen.close();
+      out.write(Format.LINE_FEED);
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
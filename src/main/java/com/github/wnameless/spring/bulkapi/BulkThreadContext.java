@@ -0,0 +1,174 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.security.Principal;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ *
+ * {@link BulkThreadContext} is a snapshot of the thread-bound contexts of
+ * Spring: the {@link RequestAttributes}, the {@link LocaleContext} and, if
+ * Spring Security is present, the security context.
+ *
+ */
+final class BulkThreadContext {
+
+  private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+      "org.springframework.security.core.context.SecurityContextHolder",
+      BulkThreadContext.class.getClassLoader());
+
+  private final RequestAttributes requestAttributes;
+  private final LocaleContext localeContext;
+  private final Object securityContext;
+
+  private BulkThreadContext(RequestAttributes requestAttributes,
+      LocaleContext localeContext, Object securityContext) {
+    this.requestAttributes = requestAttributes;
+    this.localeContext = localeContext;
+    this.securityContext = securityContext;
+  }
+
+  /**
+   * Captures the contexts bound to the current thread.
+   *
+   * @return a {@link BulkThreadContext}
+   */
+  static BulkThreadContext capture() {
+    return new BulkThreadContext(RequestContextHolder.getRequestAttributes(),
+        LocaleContextHolder.getLocaleContext(),
+        SECURITY_PRESENT ? Security.capture() : null);
+  }
+
+  /**
+   * Returns the name of the user a request is authenticated as, by its user
+   * principal or, if Spring Security is present, by the security context of
+   * the current thread.
+   *
+   * @param servReq
+   *          a {@link HttpServletRequest}
+   * @return a user name, or null if the request is anonymous
+   */
+  static String userName(HttpServletRequest servReq) {
+    Principal principal = servReq == null ? null : servReq.getUserPrincipal();
+    if (principal != null) return principal.getName();
+    return SECURITY_PRESENT ? Security.userName() : null;
+  }
+
+  /**
+   * Binds the captured contexts to the current thread.
+   *
+   * @return the contexts which were bound before
+   */
+  BulkThreadContext apply() {
+    BulkThreadContext previous = capture();
+    restore();
+    return previous;
+  }
+
+  /**
+   * Binds the captured contexts to the current thread again, ex: after they
+   * have been reset by a servlet filter.
+   */
+  void restore() {
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    LocaleContextHolder.setLocaleContext(localeContext);
+    if (SECURITY_PRESENT) Security.bind(securityContext);
+  }
+
+  /**
+   * Wraps given task to run with the captured contexts. The contexts of the
+   * running thread are restored once the task finishes.
+   *
+   * @param task
+   *          a {@link Callable}
+   * @return a {@link Callable}
+   */
+  <T> Callable<T> wrap(Callable<T> task) {
+    return () -> {
+      BulkThreadContext previous = apply();
+      try {
+        return task.call();
+      } finally {
+        previous.restore();
+      }
+    };
+  }
+
+  /**
+   * Wraps given task to run with the captured contexts. The contexts of the
+   * running thread are restored once the task finishes.
+   *
+   * @param task
+   *          a {@link Runnable}
+   * @return a {@link Runnable}
+   */
+  Runnable wrap(Runnable task) {
+    return () -> {
+      BulkThreadContext previous = apply();
+      try {
+        task.run();
+      } finally {
+        previous.restore();
+      }
+    };
+  }
+
+  /**
+   * Keeps the Spring Security classes away from runtimes without them.
+   */
+  private static final class Security {
+
+    static Object capture() {
+      SecurityContext ctx = SecurityContextHolder.getContext();
+      return ctx.getAuthentication() == null ? null : ctx;
+    }
+
+    static String userName() {
+      Authentication auth =
+          SecurityContextHolder.getContext().getAuthentication();
+      if (auth == null || !auth.isAuthenticated()
+          || auth instanceof AnonymousAuthenticationToken) {
+        return null;
+      }
+      return auth.getName();
+    }
+
+    static void bind(Object securityContext) {
+      if (securityContext == null) {
+        SecurityContextHolder.clearContext();
+      } else {
+        SecurityContextHolder.setContext((SecurityContext) securityContext);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,424 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_KEY_HEADERS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_KEY_HEADERS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_SIZE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_SIZE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_TTL_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RESPONSE_CACHE_TTL_KEY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+/**
+ *
+ * {@link CachingBulkDispatcher} keeps 200 responses of GET and HEAD operations
+ * in a size-bounded cache shared by all bulk requests, in front of another
+ * {@link BulkDispatcher}.<br>
+ * <br>
+ * Responses are keyed by method, URI, params, the user the bulk request is
+ * authenticated as and the values of the headers in
+ * {@code spring.bulk.api.response-cache.key-headers}, a response is only
+ * served for the same values of the headers listed by its Vary header. So a
+ * response is never served to another user, even if the Authorization or
+ * Cookie header is not inherited or not part of the key. The
+ * Cache-Control of a response is honoured: no-store, private and Set-Cookie
+ * responses are never cached, max-age(or s-maxage) is the time to live, or
+ * {@code spring.bulk.api.response-cache.ttl} if it is absent, and no-cache
+ * responses are always revalidated. A stale response with an ETag is
+ * revalidated by If-None-Match, a 304 keeps it for another time to live.<br>
+ * <br>
+ * Every unsafe operation invalidates cached responses of its path, the paths
+ * above it and the paths below it once it finishes, so reads after a write
+ * don't see a stale response. Cached responses are indexed by path, so an
+ * invalidation only visits the affected entries and never blocks other
+ * operations.
+ *
+ */
+final class CachingBulkDispatcher implements BulkDispatcher {
+
+  /**
+   * {@link Entry} is a cached response.
+   */
+  private static final class Entry {
+
+    final String path;
+    final Map<String, String> varied;
+    final ResponseEntity<byte[]> response;
+    final String etag;
+    final long ttlNanos;
+    volatile long expiresAt;
+
+    Entry(String path, Map<String, String> varied,
+        ResponseEntity<byte[]> response, long ttlNanos) {
+      this.path = path;
+      this.varied = varied;
+      this.response = response;
+      etag = response.getHeaders().getETag();
+      this.ttlNanos = ttlNanos;
+      expiresAt = System.nanoTime() + ttlNanos;
+    }
+
+    boolean isFresh() {
+      return System.nanoTime() - expiresAt < 0;
+    }
+
+  }
+
+  private final BulkDispatcher delegate;
+  private final long defaultTtlNanos;
+  private final Set<String> keyHeaders;
+  private final Cache<List<Object>, Entry> cache;
+
+  // Keys of cached responses by path, sorted to find the paths below a path
+  private final ConcurrentSkipListMap<String, Set<List<Object>>> keysByPath =
+      new ConcurrentSkipListMap<>();
+
+  // Striped counters of invalidations at a path and at or below a path, so a
+  // response read before an invalidation which concerns it is not cached
+  private static final int STRIPES = 64;
+  private final AtomicLongArray invalidatedAt = new AtomicLongArray(STRIPES);
+  private final AtomicLongArray invalidatedBelow = new AtomicLongArray(STRIPES);
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder revalidationCount = new LongAdder();
+  private final LongAdder invalidationCount = new LongAdder();
+
+  private CachingBulkDispatcher(BulkDispatcher delegate, int size,
+      long defaultTtl, Set<String> keyHeaders) {
+    this.delegate = delegate;
+    defaultTtlNanos = MILLISECONDS.toNanos(Math.max(defaultTtl, 0));
+    this.keyHeaders = keyHeaders;
+    cache = CacheBuilder.newBuilder().maximumSize(size)
+        .removalListener(this::unindex).build();
+  }
+
+  /**
+   * Creates a {@link CachingBulkDispatcher} in front of given dispatcher, or
+   * returns null if {@code spring.bulk.api.response-cache.size} is not
+   * positive.
+   *
+   * @param delegate
+   *          the {@link BulkDispatcher} which executes operations
+   * @param env
+   *          the {@link Environment}
+   * @return a {@link CachingBulkDispatcher} or null
+   */
+  static CachingBulkDispatcher of(BulkDispatcher delegate, Environment env) {
+    int size = env.getProperty(BULK_API_RESPONSE_CACHE_SIZE_KEY, int.class,
+        BULK_API_RESPONSE_CACHE_SIZE_DEFAULT);
+    if (size <= 0) return null;
+
+    long ttl = env.getProperty(BULK_API_RESPONSE_CACHE_TTL_KEY, long.class,
+        BULK_API_RESPONSE_CACHE_TTL_DEFAULT);
+    Set<String> keyHeaders = BulkHeaders.headerNames(
+        env.getProperty(BULK_API_RESPONSE_CACHE_KEY_HEADERS_KEY,
+            BULK_API_RESPONSE_CACHE_KEY_HEADERS_DEFAULT));
+    return new CachingBulkDispatcher(delegate, size, ttl, keyHeaders);
+  }
+
+  @Override
+  public ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq) {
+    HttpMethod method = plan.getMethod();
+    if (method == HttpMethod.OPTIONS || method == HttpMethod.TRACE) {
+      return delegate.dispatch(plan, headers, servReq);
+    }
+    if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+      try {
+        return delegate.dispatch(plan, headers, servReq);
+      } finally {
+        invalidate(plan.getPath());
+      }
+    }
+    if (isUncacheable(headers)) {
+      return delegate.dispatch(plan, headers, servReq);
+    }
+
+    List<Object> key = key(plan, headers, servReq);
+    long version = version(plan.getPath());
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null
+        && !entry.varied.equals(varied(entry.response, headers))) {
+      entry = null;
+    }
+
+    if (entry != null && entry.isFresh()) {
+      hitCount.increment();
+      return entry.response;
+    }
+
+    missCount.increment();
+    if (entry != null && entry.etag != null) {
+      Map<String, String> conditional = new LinkedCaseInsensitiveMap<>();
+      conditional.putAll(headers);
+      conditional.put(HttpHeaders.IF_NONE_MATCH, entry.etag);
+      ResponseEntity<byte[]> res =
+          delegate.dispatch(plan, conditional, servReq);
+      if (res.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+        revalidationCount.increment();
+        long ttlNanos = ttlNanos(res.getHeaders());
+        entry.expiresAt =
+            System.nanoTime() + (ttlNanos < 0 ? entry.ttlNanos : ttlNanos);
+        return entry.response;
+      }
+      store(key, version, plan, headers, res);
+      return res;
+    }
+
+    ResponseEntity<byte[]> res = delegate.dispatch(plan, headers, servReq);
+    store(key, version, plan, headers, res);
+    return res;
+  }
+
+  /**
+   * Returns the number of operations answered by a fresh cached response.
+   *
+   * @return the hit count
+   */
+  long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of cacheable operations which were dispatched,
+   * including revalidations.
+   *
+   * @return the miss count
+   */
+  long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of stale responses confirmed by a 304.
+   *
+   * @return the revalidation count
+   */
+  long getRevalidationCount() {
+    return revalidationCount.sum();
+  }
+
+  /**
+   * Returns the number of cached responses removed by unsafe operations.
+   *
+   * @return the invalidation count
+   */
+  long getInvalidationCount() {
+    return invalidationCount.sum();
+  }
+
+  private void store(List<Object> key, long version, BulkOperationPlan plan,
+      Map<String, String> headers, ResponseEntity<byte[]> res) {
+    if (res.getStatusCode() != HttpStatus.OK) return;
+
+    HttpHeaders resHeaders = res.getHeaders();
+    if (resHeaders.containsKey(HttpHeaders.SET_COOKIE)) return;
+    if (resHeaders.getVary().contains("*")) return;
+
+    Map<String, String> directives = cacheControl(resHeaders);
+    if (directives.containsKey("no-store")
+        || directives.containsKey("private")) {
+      return;
+    }
+
+    long ttlNanos =
+        directives.containsKey("no-cache") ? 0 : ttlNanos(resHeaders);
+    if (ttlNanos < 0) ttlNanos = defaultTtlNanos;
+    if (ttlNanos == 0 && resHeaders.getETag() == null) return;
+
+    String path = plan.getPath();
+    Entry entry = new Entry(path, varied(res, headers), res, ttlNanos);
+    keysByPath.computeIfAbsent(path, p -> ConcurrentHashMap.newKeySet())
+        .add(key);
+    cache.put(key, entry);
+    // An invalidation which began after the read may have missed the entry
+    if (version(path) != version) cache.asMap().remove(key, entry);
+  }
+
+  private void unindex(RemovalNotification<List<Object>, Entry> removal) {
+    if (removal.getCause() == RemovalCause.REPLACED) return;
+
+    keysByPath.computeIfPresent(removal.getValue().path, (path, keys) -> {
+      keys.remove(removal.getKey());
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  private void invalidate(String path) {
+    invalidatedAt.incrementAndGet(stripe(path));
+    invalidatedBelow.incrementAndGet(stripe(path));
+    List<String> ancestors = ancestorsOf(path);
+    for (String ancestor : ancestors) {
+      invalidatedBelow.incrementAndGet(stripe(ancestor));
+    }
+
+    invalidate(keysByPath.remove(path));
+    for (String ancestor : ancestors) {
+      invalidate(keysByPath.remove(ancestor));
+    }
+    String prefix = path.endsWith("/") ? path : path + "/";
+    NavigableMap<String, Set<List<Object>>> descendants =
+        keysByPath.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    for (String descendant : descendants.keySet()) {
+      invalidate(keysByPath.remove(descendant));
+    }
+  }
+
+  private void invalidate(Set<List<Object>> keys) {
+    if (keys == null) return;
+
+    for (List<Object> key : keys) {
+      if (cache.asMap().remove(key) != null) invalidationCount.increment();
+    }
+  }
+
+  /**
+   * Returns a version of given path, which changes with every invalidation of
+   * the path, a path above it or a path below it.
+   */
+  private long version(String path) {
+    long version = invalidatedBelow.get(stripe(path));
+    for (String ancestor : ancestorsOf(path)) {
+      version += invalidatedAt.get(stripe(ancestor));
+    }
+    return version;
+  }
+
+  /**
+   * Returns the paths above given path, with and without a trailing slash.
+   */
+  private static List<String> ancestorsOf(String path) {
+    List<String> ancestors = new ArrayList<>();
+    int end = path.length();
+    if (end > 1 && path.endsWith("/")) ancestors.add(path.substring(0, --end));
+    int slash;
+    while ((slash = path.lastIndexOf('/', end - 1)) >= 0) {
+      if (slash > 0) ancestors.add(path.substring(0, slash));
+      ancestors.add(path.substring(0, slash + 1));
+      end = slash;
+    }
+    return ancestors;
+  }
+
+  private static int stripe(String path) {
+    return (path.hashCode() & Integer.MAX_VALUE) % STRIPES;
+  }
+
+  private List<Object> key(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq) {
+    List<String> values = new ArrayList<>(keyHeaders.size());
+    for (String name : keyHeaders) {
+      values.add(headers.get(name));
+    }
+    return Arrays.asList(plan.getMethod(), plan.getUri(),
+        plan.getOperation().getParams(), BulkThreadContext.userName(servReq),
+        values);
+  }
+
+  private static Map<String, String> varied(ResponseEntity<byte[]> res,
+      Map<String, String> headers) {
+    List<String> vary = res.getHeaders().getVary();
+    if (vary.isEmpty()) return Collections.emptyMap();
+
+    Map<String, String> varied = new LinkedHashMap<>();
+    for (String name : vary) {
+      varied.put(name.toLowerCase(), headers.get(name));
+    }
+    return varied;
+  }
+
+  /**
+   * Checks if the operation asks for a response which is not cached, or
+   * sends its own conditional request.
+   */
+  private static boolean isUncacheable(Map<String, String> headers) {
+    if (headers.containsKey(HttpHeaders.IF_NONE_MATCH)
+        || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE)) {
+      return true;
+    }
+    String cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+    return cacheControl != null && (cacheControl.contains("no-cache")
+        || cacheControl.contains("no-store"));
+  }
+
+  /**
+   * Returns the time to live of a response by its Cache-Control, or -1 if it
+   * has no max-age.
+   */
+  private static long ttlNanos(HttpHeaders resHeaders) {
+    Map<String, String> directives = cacheControl(resHeaders);
+    String maxAge = directives.get("s-maxage");
+    if (maxAge == null) maxAge = directives.get("max-age");
+    if (maxAge == null) return -1;
+
+    try {
+      return SECONDS.toNanos(Math.max(Long.parseLong(maxAge), 0));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static Map<String, String> cacheControl(HttpHeaders resHeaders) {
+    String cacheControl = resHeaders.getCacheControl();
+    if (cacheControl == null) return Collections.emptyMap();
+
+    Map<String, String> directives = new LinkedHashMap<>();
+    for (String directive : StringUtils
+        .commaDelimitedListToStringArray(cacheControl)) {
+      int eq = directive.indexOf('=');
+      String name = (eq < 0 ? directive : directive.substring(0, eq)).trim()
+          .toLowerCase();
+      String value =
+          eq < 0 ? "" : directive.substring(eq + 1).trim().replace("\"", "");
+      if (!name.isEmpty()) directives.put(name, value);
+    }
+    return directives;
+  }
+
+}
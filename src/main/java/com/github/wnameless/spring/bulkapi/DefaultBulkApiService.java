@@ -17,40 +17,80 @@
  */
 package com.github.wnameless.spring.bulkapi;
 
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_COALESCED_ATTRIBUTE;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_COALESCE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_COALESCE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DEADLINE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DEADLINE_HEADER;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DEADLINE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HEADERS_ALLOW_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_HEADERS_DENY_KEY;
 import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_DEFAULT;
 import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_LIMIT_KEY;
 import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PATH_DEFAULT;
 import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PATH_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RAW_JSON_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RAW_JSON_HEADER;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_RAW_JSON_KEY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.PAYLOAD_TOO_LARGE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.RequestEntity.BodyBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * {@link DefaultBulkApiService} id the default implementation of
  * {@link BulkApiService}.
  */
-public class DefaultBulkApiService implements BulkApiService {
+public class DefaultBulkApiService implements BulkApiService, DisposableBean {
+
+    private static final String PLANS_ATTRIBUTE =
+            DefaultBulkApiService.class.getName() + ".PLANS";
 
     private final ApplicationContext appCtx;
     private final Environment env;
 
-    private BulkApiValidator validator;
+    private final RoutingBulkDispatcher dispatcher;
+    private final CachingBulkDispatcher responseCache;
+    private final BulkConcurrencyLimiter limiter;
+    private final BulkOperationExecutor executor;
+    private final BulkRequestExecutor requestExecutor;
+    private final ObjectMapper objectMapper;
+    private final String bulkPath;
+    private final BulkApiValidator validator;
+    private final BulkApiWarmUp warmUp;
+    private final Set<String> allowedHeaders;
+    private final Set<String> deniedHeaders;
+    private final boolean coalesce;
+
+    private final LongAdder coalescedCount = new LongAdder();
+    private final BulkApiMetrics metrics;
+
     private URITransformer uriTransformer;
 
     /**
@@ -61,125 +101,588 @@ public class DefaultBulkApiService implements BulkApiService {
     public DefaultBulkApiService(ApplicationContext appCtx) {
         this.appCtx = appCtx;
         env = appCtx.getEnvironment();
+        dispatcher = new RoutingBulkDispatcher(appCtx);
+        limiter = BulkConcurrencyLimiter.of(env);
+        responseCache = CachingBulkDispatcher.of(
+                limiter == null ? dispatcher : this::sampledDispatch, env);
+        executor = new BulkOperationExecutor(appCtx);
+        requestExecutor = new BulkRequestExecutor(appCtx);
+        objectMapper = BulkApiBeans.objectMapper(appCtx);
+        bulkPath =
+                urlify(env.getProperty(BULK_API_PATH_KEY, BULK_API_PATH_DEFAULT));
+        validator = new BulkApiValidator(appCtx);
+        warmUp = new BulkApiWarmUp(appCtx, validator, bulkPath);
+        allowedHeaders = BulkHeaders.headerNames(
+                env.getProperty(BULK_API_HEADERS_ALLOW_KEY, ""));
+        deniedHeaders = BulkHeaders.headerNames(
+                env.getProperty(BULK_API_HEADERS_DENY_KEY, ""));
+        coalesce = env.getProperty(BULK_API_COALESCE_KEY, boolean.class,
+                BULK_API_COALESCE_DEFAULT);
+
+        metrics = BulkApiMetrics.of(appCtx, this);
 
         String[] beanNames = appCtx.getBeanNamesForType(URITransformer.class);
         if (beanNames.length > 0) {
             uriTransformer = appCtx.getBean(URITransformer.class);
         }
+
+        // Routes are resolved in the background once all beans exist, and
+        // again if the context is refreshed later
+        if (appCtx instanceof ConfigurableApplicationContext) {
+            ((ConfigurableApplicationContext) appCtx).addApplicationListener(
+                    (ApplicationListener<ApplicationEvent>) warmUp::onApplicationEvent);
+        }
     }
 
-    private BulkApiValidator validator() {
-        if (validator == null) validator = new BulkApiValidator(appCtx);
+    /**
+     * Returns the {@link BulkApiValidator} of this service, ex: to read its
+     * cache counters.
+     *
+     * @return a {@link BulkApiValidator}
+     */
+    public BulkApiValidator getValidator() {
         return validator;
     }
 
+    /**
+     * Checks if routes are resolved and the warm-up, if
+     * {@code spring.bulk.api.warm-up} is true, is finished, so bulk requests
+     * can be served without a cold start.
+     *
+     * @return true if ready, false otherwise
+     */
+    public boolean isReady() {
+        return warmUp.isReady();
+    }
+
+    /**
+     * Returns the number of warm-up bulk requests which failed.
+     *
+     * @return the failure count
+     */
+    public int getWarmUpFailureCount() {
+        return warmUp.getFailureCount();
+    }
+
+    /**
+     * Returns the number of operation executions saved by coalescing identical
+     * safe operations of all bulk requests. The number saved by a bulk request
+     * is kept in its {@link HttpServletRequest} attribute
+     * {@link BulkApiConfig#BULK_API_COALESCED_ATTRIBUTE}.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Returns the number of operations answered by the response cache, 0 if
+     * {@code spring.bulk.api.response-cache.size} is not positive.
+     *
+     * @return the hit count
+     */
+    public long getResponseCacheHitCount() {
+        return responseCache == null ? 0 : responseCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of cacheable operations which were not answered by
+     * the response cache, including revalidated ones.
+     *
+     * @return the miss count
+     */
+    public long getResponseCacheMissCount() {
+        return responseCache == null ? 0 : responseCache.getMissCount();
+    }
+
+    /**
+     * Returns the current adaptive limit of operations in flight, 0 if
+     * {@code spring.bulk.api.concurrency-limit} is not true.
+     *
+     * @return the concurrency limit
+     */
+    public int getConcurrencyLimit() {
+        return limiter == null ? 0 : limiter.getLimit();
+    }
+
+    /**
+     * Returns the number of operations in flight counted against the
+     * concurrency limit, 0 if {@code spring.bulk.api.concurrency-limit} is not
+     * true.
+     *
+     * @return the operations in flight
+     */
+    public int getConcurrencyInFlight() {
+        return limiter == null ? 0 : limiter.getInFlight();
+    }
+
+    /**
+     * Returns the number of bulk requests rejected by the concurrency limit.
+     *
+     * @return the rejected count
+     */
+    public long getConcurrencyLimitRejectionCount() {
+        return limiter == null ? 0 : limiter.getRejectedCount();
+    }
+
+    /**
+     * Records a bulk request rejected before it reaches this service, ex: by
+     * the {@link BulkRequestReader}.
+     */
+    void rejected(BulkApiException e) {
+        metrics.rejected(e);
+    }
+
     @Override
     public BulkResponse bulk(BulkRequest req, HttpServletRequest servReq) {
-        validateBulkRequest(req, servReq);
+        BulkResult[] results = new BulkResult[req.getOperations().size()];
+        bulk(req, servReq, (index, result) -> results[index] = result);
 
-        List<BulkResult> results = new ArrayList<>();
-        RestTemplate template = new RestTemplate();
-        for (BulkOperation op : req.getOperations()) {
-            Collection<String> headers = Collections.list(servReq.getHeaderNames());
-            if (!CollectionUtils.isEmpty(headers)) {
-                if (op.getHeaders() == null) {
-                    op.setHeaders(new HashMap<>());
-                }
-                for (String header : headers) {
-                    op.getHeaders().put(header, servReq.getHeader(header));
-                }
+        List<BulkResult> nonSilentResults = new ArrayList<>();
+        for (BulkResult result : results) {
+            if (result != null) nonSilentResults.add(result);
+        }
+
+        return new BulkResponse(nonSilentResults);
+    }
+
+    @Override
+    public void bulk(BulkRequest req, HttpServletRequest servReq,
+                     BulkResultListener listener) {
+        int permits = limiter == null ? 0
+                : executor.concurrencyOf(req.getOperations().size());
+        if (permits > 0) {
+            try {
+                limiter.acquire(permits);
+            } catch (BulkApiException e) {
+                metrics.rejected(e);
+                throw e;
             }
-            ComputedURIResult uriResult = computeUri(servReq, op);
+        }
+
+        long start = metrics.start();
+        boolean success = false;
+        try {
+            execute(req, servReq, listener);
+            success = true;
+        } finally {
+            if (permits > 0) limiter.release(permits);
+            metrics.bulkFinished(req.getOperations().size(), start, success);
+        }
+    }
 
-            BodyBuilder bodyBuilder = RequestEntity.method(//
-                    httpMethod(op.getMethod()), uriResult.getUri());
+    private void execute(BulkRequest req, HttpServletRequest servReq,
+                         BulkResultListener listener) {
+        long bulkDeadline;
+        boolean rawJson;
+        List<BulkOperationPlan> plans;
+        BulkOperationGraph graph;
+        List<List<Integer>> waves;
+        try {
+            bulkDeadline = bulkDeadline(servReq);
+            rawJson = rawJson(servReq);
+            plans = validateBulkRequest(req, servReq);
+            graph = new BulkOperationGraph(req.getOperations());
+            waves = executor.isParallel() ? graph.waves() : graph.sequence();
+        } catch (BulkApiException e) {
+            metrics.rejected(e);
+            throw e;
+        }
 
-            ResponseEntity<String> rawRes = template.exchange(
-                    requestEntity(bodyBuilder, op, uriResult.hasRequestBody()),
-                    String.class);
+        List<BulkOperation> ops = req.getOperations();
+        // Headers of the bulk request are captured once for all operations
+        BulkHeaders headers =
+                BulkHeaders.inherit(servReq, allowedHeaders, deniedHeaders);
 
-            if (!op.isSilent()) {
-                results.add(buildResult(rawRes));
-            }
+        // Only raw results referred by other operations are kept
+        Set<String> referredIds = new HashSet<>();
+        Set<Integer> referringOps = new HashSet<>();
+        for (int i = 0; i < ops.size(); i++) {
+            Set<String> ids = BulkResultReferences.referredIds(ops.get(i));
+            if (ids.isEmpty()) continue;
+
+            referredIds.addAll(ids);
+            referringOps.add(i);
         }
+        Map<String, ResponseEntity<byte[]>> referredResults =
+                new ConcurrentHashMap<>();
+        BulkResultReferences refs = new BulkResultReferences(objectMapper,
+                referredResults::get);
+
+        // Operations which are timed out, have unresolvable references or
+        // depend on failed ones
+        Set<Integer> failed = ConcurrentHashMap.newKeySet();
+        Set<Integer> finished = ConcurrentHashMap.newKeySet();
+
+        // Identical safe operations are executed once and share the result
+        BulkOperationCoalescer coalescer = new BulkOperationCoalescer(plans,
+                graph, waves, !executor.isParallel(), coalesce);
+        int saved = coalescer.getSavedCount();
+        servReq.setAttribute(BULK_API_COALESCED_ATTRIBUTE, saved);
+        coalescedCount.add(saved);
+
+        listener.onStart();
+        for (List<Integer> wave : waves) {
+            List<Integer> leaders = new ArrayList<>(wave.size());
+            for (int idx : wave) {
+                if (coalescer.isLeader(idx)) leaders.add(idx);
+            }
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int idx : leaders) {
+                BulkOperation op = ops.get(idx);
+                tasks.add(() -> {
+                    for (int dep : graph.dependenciesOf(idx)) {
+                        if (failed.contains(dep)) {
+                            if (finished.add(idx)) {
+                                fail(listener, ops, coalescer, idx, failed,
+                                        errorResult(HttpStatus.FAILED_DEPENDENCY,
+                                                "Operation depends on a failed operation"));
+                            }
+                            return null;
+                        }
+                    }
+
+                    BulkOperationPlan plan = plans.get(idx);
+                    if (plan.isDeferred() || referringOps.contains(idx)) {
+                        // Earlier operations may have run already, so an
+                        // unresolvable reference only fails this operation
+                        try {
+                            BulkOperation resolved = refs.resolve(op);
+                            if (plan.isDeferred()) {
+                                checkUrl(servReq, resolved);
+                                plan = plan(servReq, resolved);
+                            } else {
+                                plan = plan.withOperation(resolved);
+                            }
+                        } catch (BulkApiException e) {
+                            if (finished.add(idx)) {
+                                fail(listener, ops, coalescer, idx, failed,
+                                        errorResult(e.getStatus(), e.getError()));
+                            }
+                            return null;
+                        }
+                    }
+                    long opStart = metrics.start();
+                    ResponseEntity<byte[]> rawRes = dispatch(plan,
+                            headers.of(plan.getOperation()), servReq);
+                    metrics.operationFinished(plan, opStart,
+                            rawRes.getStatusCodeValue());
+
+                    if (finished.add(idx)) {
+                        BulkResult result = buildResult(rawRes, rawJson);
+                        for (int at : group(coalescer, idx)) {
+                            BulkOperation atOp = ops.get(at);
+                            if (atOp.getId() != null
+                                    && referredIds.contains(atOp.getId())) {
+                                referredResults.put(atOp.getId(), rawRes);
+                            }
+                            emit(listener, atOp, at, result);
+                        }
+                    }
+                    return null;
+                });
+            }
 
-        return new BulkResponse(results);
+            long[] deadlines = deadlines(ops, leaders, bulkDeadline);
+            executor.invokeAll(tasks, deadlines, i -> {
+                int idx = leaders.get(i);
+                if (finished.add(idx)) {
+                    BulkOperation op = ops.get(idx);
+                    fail(listener, ops, coalescer, idx, failed,
+                            errorResult(HttpStatus.GATEWAY_TIMEOUT,
+                                    deadlines[i] == bulkDeadline
+                                            ? "Bulk deadline exceeded"
+                                            : "Operation timed out after "
+                                            + op.getTimeoutMs() + " ms"));
+                }
+                return null;
+            });
+        }
     }
 
-    private RequestEntity<?> requestEntity(BodyBuilder bodyBuilder,
-                                           BulkOperation op, boolean requestBody) {
-        for (Entry<String, String> header : op.getHeaders().entrySet()) {
-            bodyBuilder.header(header.getKey(), header.getValue());
+    /**
+     * Dispatches given operation through the response cache if there is one.
+     */
+    private ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+                                            Map<String, String> opHeaders,
+                                            HttpServletRequest servReq) {
+        if (responseCache != null) {
+            return responseCache.dispatch(plan, opHeaders, servReq);
         }
+        return limiter == null ? dispatcher.dispatch(plan, opHeaders, servReq)
+                : sampledDispatch(plan, opHeaders, servReq);
+    }
 
-        Object params;
-        if (requestBody) {
-            params = op.getParams();
-        } else {
-            LinkedMultiValueMap<String, Object> lmvm = new LinkedMultiValueMap<>();
-            lmvm.setAll(op.getParams());
-            params = lmvm;
+    /**
+     * Dispatches given operation to its handler and samples its latency for
+     * the concurrency limit. Responses served by the response cache never get
+     * here, so they don't count as fast operations. 429, 503 and 504 responses
+     * and failures without a response, ex: interrupted by a timeout, count as
+     * overload.
+     */
+    private ResponseEntity<byte[]> sampledDispatch(BulkOperationPlan plan,
+                                                   Map<String, String> opHeaders,
+                                                   HttpServletRequest servReq) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ResponseEntity<byte[]> rawRes =
+                    dispatcher.dispatch(plan, opHeaders, servReq);
+            failed = isOverload(rawRes.getStatusCodeValue());
+            return rawRes;
+        } catch (HttpStatusCodeException e) {
+            failed = isOverload(e.getRawStatusCode());
+            throw e;
+        } finally {
+            limiter.sample(System.nanoTime() - start, failed);
         }
+    }
 
-        return bodyBuilder.body(params);
+    private static boolean isOverload(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
     }
 
-    private ComputedURIResult computeUri(HttpServletRequest servReq,
-                                         BulkOperation op) {
-        String rawUrl = servReq.getRequestURL().toString();
-        String rawUri = servReq.getRequestURI().toString();
+    /**
+     * Returns given leader followed by the operations sharing its result.
+     */
+    private static List<Integer> group(BulkOperationCoalescer coalescer,
+                                       int idx) {
+        List<Integer> followers = coalescer.followersOf(idx);
+        if (followers.isEmpty()) return Collections.singletonList(idx);
+
+        List<Integer> group = new ArrayList<>(followers.size() + 1);
+        group.add(idx);
+        group.addAll(followers);
+        return group;
+    }
 
-        if (op.getUrl() == null || isBulkPath(op.getUrl())) {
-            throw new BulkApiException(UNPROCESSABLE_ENTITY,
-                    "Invalid URL(" + rawUri + ") exists in this bulk request");
+    /**
+     * Marks given leader and the operations sharing its result as failed, and
+     * emits given error result for them.
+     */
+    private void fail(BulkResultListener listener, List<BulkOperation> ops,
+                      BulkOperationCoalescer coalescer, int idx,
+                      Set<Integer> failed, BulkResult result) {
+        for (int at : group(coalescer, idx)) {
+            failed.add(at);
+            emit(listener, ops.get(at), at, result);
         }
+    }
 
-        String bulkPath =
-                urlify(env.getProperty(BULK_API_PATH_KEY, BULK_API_PATH_DEFAULT));
+    @Override
+    public CompletableFuture<BulkResponse> bulkAsync(BulkRequest req,
+                                                     HttpServletRequest servReq) {
+        return requestExecutor.submit(() -> bulk(req, servReq));
+    }
+
+    @Override
+    public void destroy() {
+        warmUp.shutdown();
+        requestExecutor.shutdown();
+        executor.shutdown();
+        dispatcher.shutdown();
+    }
+
+    private BulkOperationPlan plan(HttpServletRequest servReq,
+                                   BulkOperation op) {
+        String url = urlify(op.getUrl());
+        String rawUrl = servReq.getRequestURL().toString();
         URI uri;
         try {
             String servletPath = rawUrl.substring(0, rawUrl.lastIndexOf(bulkPath));
-            uri = new URI(servletPath + urlify(op.getUrl()));
+            uri = new URI(servletPath + url);
         } catch (URISyntaxException e) {
             throw new BulkApiException(UNPROCESSABLE_ENTITY, "Invalid URL("
-                    + urlify(op.getUrl()) + ") exists in this bulk request");
+                    + url + ") exists in this bulk request");
         }
 
-        PathValidationResult pvr = validator().validatePath(urlify(op.getUrl()),
-                httpMethod(op.getMethod()));
+        HttpMethod method = httpMethod(op.getMethod());
+        int queryIdx = url.indexOf('?');
+        String path = queryIdx >= 0 ? url.substring(0, queryIdx) : url;
+        PathValidationResult pvr = validator.validatePath(path, method);
         if (!pvr.isValid()) {
             throw new BulkApiException(UNPROCESSABLE_ENTITY, "Invalid URL("
-                    + urlify(op.getUrl()) + ") exists in this bulk request");
+                    + url + ") exists in this bulk request");
         }
 
         if (uriTransformer != null) uri = uriTransformer.transform(uri);
-        return new ComputedURIResult(uri, pvr.hasRequestBody());
+        return new BulkOperationPlan(op, method, path, uri, pvr.hasRequestBody(),
+                pvr.getRoutingPath());
+    }
+
+    private void checkUrl(HttpServletRequest servReq, BulkOperation op) {
+        String rawUri = servReq.getRequestURI().toString();
+
+        if (op.getUrl() == null || isBulkPath(op.getUrl())) {
+            throw new BulkApiException(UNPROCESSABLE_ENTITY,
+                    "Invalid URL(" + rawUri + ") exists in this bulk request");
+        }
     }
 
     private boolean isBulkPath(String url) {
-        String bulkPath =
-                urlify(env.getProperty(BULK_API_PATH_KEY, BULK_API_PATH_DEFAULT));
         url = urlify(url);
 
         return url.equals(bulkPath) || url.startsWith(bulkPath + "/");
     }
 
-    private String urlify(String url) {
+    private void emit(BulkResultListener listener, BulkOperation op, int idx,
+                      BulkResult result) {
+        metrics.result(result.getStatus(), op.isSilent());
+        if (op.isSilent()) return;
+        synchronized (listener) {
+            listener.onResult(idx, result);
+        }
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} deadline of the bulk request, 0 if
+     * it has no deadline. The shorter one of the
+     * {@code spring.bulk.api.deadline} and the {@code X-Bulk-Deadline} header
+     * of the bulk request is taken.
+     */
+    private long bulkDeadline(HttpServletRequest servReq) {
+        long timeout = env.getProperty(BULK_API_DEADLINE_KEY, long.class,
+                BULK_API_DEADLINE_DEFAULT);
+
+        String header = servReq.getHeader(BULK_API_DEADLINE_HEADER);
+        if (header != null) {
+            long headerTimeout;
+            try {
+                headerTimeout = Long.parseLong(header.trim());
+            } catch (NumberFormatException e) {
+                headerTimeout = -1;
+            }
+            if (headerTimeout <= 0) {
+                throw new BulkApiException(BAD_REQUEST, "Invalid "
+                        + BULK_API_DEADLINE_HEADER + "(" + header
+                        + ") exists in this bulk request");
+            }
+            if (timeout <= 0 || headerTimeout < timeout) timeout = headerTimeout;
+        }
+
+        if (timeout <= 0) return 0;
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout);
+        return deadline == 0 ? 1 : deadline;
+    }
+
+    /**
+     * Checks if JSON bodies of results are embedded verbatim, by the
+     * {@code X-Bulk-Raw-Json} header of the bulk request or the
+     * {@code spring.bulk.api.raw-json} by default.
+     */
+    private boolean rawJson(HttpServletRequest servReq) {
+        String header = servReq.getHeader(BULK_API_RAW_JSON_HEADER);
+        if (header == null) {
+            return env.getProperty(BULK_API_RAW_JSON_KEY, boolean.class,
+                    BULK_API_RAW_JSON_DEFAULT);
+        }
+
+        if ("true".equalsIgnoreCase(header.trim())) return true;
+        if ("false".equalsIgnoreCase(header.trim())) return false;
+        throw new BulkApiException(BAD_REQUEST, "Invalid "
+                + BULK_API_RAW_JSON_HEADER + "(" + header
+                + ") exists in this bulk request");
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return contentType != null && "application".equals(contentType.getType())
+                && ("json".equals(contentType.getSubtype())
+                || contentType.getSubtype().endsWith("+json"));
+    }
+
+    /**
+     * Returns the deadlines of the operations in given wave, or null if none
+     * of them has a deadline. The timeout of an operation starts when its wave
+     * is scheduled.
+     */
+    private static long[] deadlines(List<BulkOperation> ops, List<Integer> wave,
+                                    long bulkDeadline) {
+        long now = System.nanoTime();
+        long[] deadlines = null;
+        for (int i = 0; i < wave.size(); i++) {
+            Long timeoutMs = ops.get(wave.get(i)).getTimeoutMs();
+            long deadline = bulkDeadline;
+            if (timeoutMs != null && timeoutMs > 0) {
+                long opDeadline = now + MILLISECONDS.toNanos(timeoutMs);
+                if (opDeadline == 0) opDeadline = 1;
+                if (deadline == 0 || opDeadline - deadline < 0) {
+                    deadline = opDeadline;
+                }
+            }
+
+            if (deadline != 0) {
+                if (deadlines == null) deadlines = new long[wave.size()];
+                deadlines[i] = deadline;
+            }
+        }
+        return deadlines;
+    }
+
+    private static BulkResult errorResult(HttpStatus status, String message) {
+        BulkResult res = new BulkResult();
+        res.setStatus(status.value());
+        res.setHeaders(Collections.singletonMap(HttpHeaders.CONTENT_TYPE,
+                MediaType.TEXT_PLAIN_VALUE));
+        res.setBody(message);
+
+        return res;
+    }
+
+    static String urlify(String url) {
         url = url.trim();
         return url.startsWith("/") ? url : "/" + url;
     }
 
-    private BulkResult buildResult(ResponseEntity<String> rawRes) {
+    private BulkResult buildResult(ResponseEntity<byte[]> rawRes,
+                                   boolean rawJson) {
         BulkResult res = new BulkResult();
         res.setStatus(rawRes.getStatusCodeValue());
         res.setHeaders(rawRes.getHeaders().toSingleValueMap());
-        res.setBody(rawRes.getBody());
+        res.setBody(rawRes.getBody(), BulkResult.charsetOf(rawRes.getHeaders()));
+        res.setRawJson(rawJson && !ObjectUtils.isEmpty(rawRes.getBody())
+                && isJson(rawRes.getHeaders().getContentType()));
 
         return res;
     }
 
-    private void validateBulkRequest(BulkRequest req,
-                                     HttpServletRequest servReq) {
+    /**
+     * Validates given operation and keeps its {@link BulkOperationPlan} in the
+     * {@link HttpServletRequest}, so the operation is not validated again when
+     * the bulk request is processed.
+     */
+    @Override
+    public void validateOperation(BulkOperation op, HttpServletRequest servReq) {
+        @SuppressWarnings("unchecked")
+        List<BulkOperationPlan> plans =
+                (List<BulkOperationPlan>) servReq.getAttribute(PLANS_ATTRIBUTE);
+        if (plans == null) {
+            plans = new ArrayList<>();
+            servReq.setAttribute(PLANS_ATTRIBUTE, plans);
+        }
+        plans.add(planOperation(servReq, op));
+    }
+
+    private BulkOperationPlan planOperation(HttpServletRequest servReq,
+                                            BulkOperation op) {
+        if (op.getTimeoutMs() != null && op.getTimeoutMs() <= 0) {
+            throw new BulkApiException(UNPROCESSABLE_ENTITY, "Invalid timeoutMs("
+                    + op.getTimeoutMs() + ") exists in this bulk request");
+        }
+
+        checkUrl(servReq, op);
+        // URLs with result references are planned after they are resolved
+        if (BulkResultReferences.hasReferences(op.getUrl())) {
+            return BulkOperationPlan.deferred(op);
+        }
+        return plan(servReq, op);
+    }
+
+    private List<BulkOperationPlan> validateBulkRequest(BulkRequest req,
+                                                        HttpServletRequest servReq) {
         int max =
                 env.getProperty(BULK_API_LIMIT_KEY, int.class, BULK_API_LIMIT_DEFAULT);
         if (req.getOperations().size() > max) {
@@ -187,13 +690,35 @@ public class DefaultBulkApiService implements BulkApiService {
                     "Bulk operations exceed the limitation(" + max + ")");
         }
 
+        // Operations read by the BulkRequestReader are planned already
+        @SuppressWarnings("unchecked")
+        List<BulkOperationPlan> plans =
+                (List<BulkOperationPlan>) servReq.getAttribute(PLANS_ATTRIBUTE);
+        servReq.removeAttribute(PLANS_ATTRIBUTE);
+        if (isPlanOf(plans, req)) return plans;
+
         // Check if any invalid URL exists
+        plans = new ArrayList<>(req.getOperations().size());
         for (BulkOperation op : req.getOperations()) {
-            computeUri(servReq, op);
+            plans.add(planOperation(servReq, op));
+        }
+        return plans;
+    }
+
+    private static boolean isPlanOf(List<BulkOperationPlan> plans,
+                                    BulkRequest req) {
+        if (plans == null || plans.size() != req.getOperations().size()) {
+            return false;
+        }
+        for (int i = 0; i < plans.size(); i++) {
+            if (plans.get(i).getOperation() != req.getOperations().get(i)) {
+                return false;
+            }
         }
+        return true;
     }
 
-    private static HttpMethod httpMethod(String method) {
+    static HttpMethod httpMethod(String method) {
         try {
             return HttpMethod.valueOf(method.toUpperCase());
         } catch (Exception e) {
@@ -0,0 +1,157 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * {@link InProcessBulkDispatcher} hands each {@link BulkOperation} straight to
+ * the {@link DispatcherServlet} with a synthetic request and response pair,
+ * so an operation costs neither a TCP round trip nor a second container
+ * thread.<br>
+ * <br>
+ * Each operation passes the servlet filters mapped to its path, ex: Spring
+ * Security, like a request sent by HTTP, and the thread-bound contexts of the
+ * bulk request are restored afterwards. Routes which rely on async request
+ * processing or on filters registered outside of the application context
+ * should be dispatched by the {@link LoopbackBulkDispatcher}.
+ *
+ */
+final class InProcessBulkDispatcher implements BulkDispatcher {
+
+  private static final Log log =
+      LogFactory.getLog(InProcessBulkDispatcher.class);
+
+  private final ApplicationContext appCtx;
+
+  private volatile DispatcherServlet dispatcherServlet;
+  private volatile InProcessFilterChain filterChain;
+  private volatile ObjectMapper objectMapper;
+
+  InProcessBulkDispatcher(ApplicationContext appCtx) {
+    this.appCtx = appCtx;
+  }
+
+  /**
+   * Checks if a {@link DispatcherServlet} is available to dispatch operations.
+   *
+   * @return true if in-process dispatch is possible, false otherwise
+   */
+  boolean isAvailable() {
+    return dispatcherServlet() != null;
+  }
+
+  @Override
+  public ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq) {
+    BulkOperation op = plan.getOperation();
+    byte[] body = null;
+    if (plan.hasRequestBody()) {
+      body = jsonBody(op.getParams());
+      headers = new LinkedHashMap<>(headers);
+      headers.put(HttpHeaders.CONTENT_TYPE,
+          MediaType.APPLICATION_JSON_UTF8_VALUE);
+    }
+
+    BulkOperationRequest opReq = new BulkOperationRequest(servReq,
+        plan.getMethod().name(), plan.getUri(),
+        plan.hasRequestBody() ? null : op.getParams(), headers, body);
+    BulkOperationResponse opRes = new BulkOperationResponse();
+
+    // Filters and the DispatcherServlet reset the thread-bound contexts
+    BulkThreadContext bulkContext = BulkThreadContext.capture();
+    try {
+      filterChain().doFilter(opReq, opRes);
+    } catch (ServletException | IOException | RuntimeException e) {
+      // Like a servlet container, log what escaped the filter chain
+      log.error("Bulk operation " + plan.getMethod() + " " + plan.getUri()
+          + " failed", e);
+      HttpServerErrorException ex =
+          new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+      ex.initCause(e);
+      throw ex;
+    } finally {
+      bulkContext.restore();
+    }
+
+    ResponseEntity<byte[]> res = opRes.toResponseEntity();
+    HttpStatus status = HttpStatus.resolve(res.getStatusCodeValue());
+    if (status != null && status.is4xxClientError()) {
+      throw new HttpClientErrorException(status, status.getReasonPhrase(),
+          res.getHeaders(), res.getBody(), opRes.charset());
+    }
+    if (status != null && status.is5xxServerError()) {
+      throw new HttpServerErrorException(status, status.getReasonPhrase(),
+          res.getHeaders(), res.getBody(), opRes.charset());
+    }
+
+    return res;
+  }
+
+  private byte[] jsonBody(Map<String, Object> params) {
+    try {
+      return objectMapper().writeValueAsBytes(params);
+    } catch (JsonProcessingException e) {
+      throw new BulkApiException(HttpStatus.UNPROCESSABLE_ENTITY,
+          "Invalid params(" + params + ") exists in this bulk request");
+    }
+  }
+
+  private DispatcherServlet dispatcherServlet() {
+    if (dispatcherServlet == null) {
+      dispatcherServlet =
+          BulkApiBeans.findBean(appCtx, DispatcherServlet.class);
+    }
+    return dispatcherServlet;
+  }
+
+  private InProcessFilterChain filterChain() {
+    if (filterChain == null) {
+      filterChain = new InProcessFilterChain(appCtx, dispatcherServlet());
+    }
+    return filterChain;
+  }
+
+  private ObjectMapper objectMapper() {
+    if (objectMapper == null) {
+      objectMapper = BulkApiBeans.objectMapper(appCtx);
+    }
+    return objectMapper;
+  }
+
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.Servlet;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ *
+ * {@link InProcessFilterChain} runs a synthetic request through the servlet
+ * filters registered in the {@link ApplicationContext}, in their registration
+ * order, before it reaches the given {@link Servlet}. A filter applies if one
+ * of its URL patterns matches the path of the request by the servlet mapping
+ * rules, or if it is mapped to the name of the servlet.
+ *
+ */
+final class InProcessFilterChain {
+
+  private static final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  private final List<MappedFilter> filters;
+  private final Servlet servlet;
+
+  InProcessFilterChain(ApplicationContext appCtx, Servlet servlet) {
+    this.servlet = servlet;
+
+    String servletName = null;
+    List<AbstractFilterRegistrationBean<?>> registrations = new ArrayList<>();
+    for (ServletContextInitializer initializer : new ServletContextInitializerBeans(
+        appCtx)) {
+      if (initializer instanceof AbstractFilterRegistrationBean) {
+        registrations.add((AbstractFilterRegistrationBean<?>) initializer);
+      } else if (initializer instanceof ServletRegistrationBean
+          && ((ServletRegistrationBean<?>) initializer)
+              .getServlet() == servlet) {
+        servletName =
+            ((ServletRegistrationBean<?>) initializer).getServletName();
+      }
+    }
+
+    List<MappedFilter> mapped = new ArrayList<>();
+    for (AbstractFilterRegistrationBean<?> registration : registrations) {
+      if (!registration.isEnabled()) continue;
+
+      Collection<String> urlPatterns = registration.getUrlPatterns();
+      Collection<String> servletNames = registration.getServletNames();
+      boolean all = urlPatterns.isEmpty() && servletNames.isEmpty();
+      if (all || urlPatterns.contains("/*")
+          || (servletName != null && servletNames.contains(servletName))) {
+        urlPatterns = Collections.singleton("/*");
+      }
+      if (urlPatterns.isEmpty()) continue;
+
+      mapped.add(new MappedFilter(registration.getFilter(), urlPatterns));
+    }
+    filters = Collections.unmodifiableList(mapped);
+  }
+
+  /**
+   * Runs given request through the matching filters and the servlet.
+   *
+   * @param req
+   *          a {@link HttpServletRequest}
+   * @param res
+   *          a {@link ServletResponse}
+   * @throws IOException
+   *           if any I/O error occurs
+   * @throws ServletException
+   *           if any filter or the servlet fails
+   */
+  void doFilter(HttpServletRequest req, ServletResponse res)
+      throws IOException, ServletException {
+    String path = urlPathHelper.getPathWithinApplication(req);
+    List<Filter> matched = new ArrayList<>(filters.size());
+    for (MappedFilter filter : filters) {
+      if (filter.matches(path)) matched.add(filter.filter);
+    }
+
+    new Chain(matched).doFilter(req, res);
+  }
+
+  private final class Chain implements FilterChain {
+
+    private final List<Filter> matched;
+    private int pos;
+
+    Chain(List<Filter> matched) {
+      this.matched = matched;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res)
+        throws IOException, ServletException {
+      if (pos < matched.size()) {
+        matched.get(pos++).doFilter(req, res, this);
+      } else {
+        servlet.service(req, res);
+      }
+    }
+
+  }
+
+  private static final class MappedFilter {
+
+    private final Filter filter;
+    private final Collection<String> urlPatterns;
+
+    MappedFilter(Filter filter, Collection<String> urlPatterns) {
+      this.filter = filter;
+      this.urlPatterns = urlPatterns;
+    }
+
+    boolean matches(String path) {
+      for (String pattern : urlPatterns) {
+        if (matches(pattern, path)) return true;
+      }
+      return false;
+    }
+
+    private static boolean matches(String pattern, String path) {
+      if (pattern.equals("/*") || pattern.equals(path)) return true;
+      if (pattern.endsWith("/*")) {
+        String prefix = pattern.substring(0, pattern.length() - 2);
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+      }
+      if (pattern.startsWith("*.")) {
+        return path.endsWith(pattern.substring(1));
+      }
+      return false;
+    }
+
+  }
+
+}
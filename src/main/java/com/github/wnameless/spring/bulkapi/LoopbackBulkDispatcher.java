@@ -0,0 +1,99 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.RequestEntity.BodyBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ *
+ * {@link LoopbackBulkDispatcher} sends each {@link BulkOperation} as a real
+ * HTTP request by the {@link RestTemplate} of {@link BulkHttpClients}. It is required when the computed
+ * {@link java.net.URI} points to another host or when a route depends on the
+ * servlet filter chain.
+ *
+ */
+final class LoopbackBulkDispatcher implements BulkDispatcher {
+
+  private static final Set<String> CONNECTION_HEADERS =
+      new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+  static {
+    CONNECTION_HEADERS.addAll(Arrays.asList(HttpHeaders.HOST,
+        HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+        HttpHeaders.CONNECTION));
+  }
+
+  private final ApplicationContext appCtx;
+  private final RestTemplate template;
+
+  LoopbackBulkDispatcher(ApplicationContext appCtx) {
+    this.appCtx = appCtx;
+    template = BulkHttpClients.restTemplate(appCtx);
+  }
+
+  @Override
+  public ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq) {
+    BodyBuilder bodyBuilder =
+        RequestEntity.method(plan.getMethod(), plan.getUri());
+
+    return template.exchange(requestEntity(bodyBuilder, plan.getOperation(),
+        headers, plan.hasRequestBody()), byte[].class);
+  }
+
+  private RequestEntity<?> requestEntity(BodyBuilder bodyBuilder,
+      BulkOperation op, Map<String, String> headers, boolean requestBody) {
+    for (Entry<String, String> header : headers.entrySet()) {
+      // Framing headers belong to the connection of the bulk request
+      if (CONNECTION_HEADERS.contains(header.getKey())) continue;
+      bodyBuilder.header(header.getKey(), header.getValue());
+    }
+
+    Object params;
+    if (requestBody) {
+      params = op.getParams();
+    } else {
+      LinkedMultiValueMap<String, Object> lmvm = new LinkedMultiValueMap<>();
+      lmvm.setAll(op.getParams());
+      params = lmvm;
+    }
+
+    return bodyBuilder.body(params);
+  }
+
+  /**
+   * Releases the pooled connections.
+   */
+  void shutdown() {
+    BulkHttpClients.close(appCtx, template);
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.springframework.context.ApplicationContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ *
+ * {@link MicrometerBulkApiMetrics} records the metrics of a
+ * {@link DefaultBulkApiService} into the {@link MeterRegistry} bean, or the
+ * global registry if there is none.<br>
+ * <br>
+ * Operations are tagged by the route template they are mapped to, never by
+ * their concrete URL, and statuses by their class, ex: 2xx, so the number of
+ * time series stays bounded.
+ *
+ */
+final class MicrometerBulkApiMetrics implements BulkApiMetrics {
+
+  private final MeterRegistry registry;
+
+  private final Timer successfulBulks;
+  private final Timer failedBulks;
+  private final DistributionSummary operationCounts;
+  private final Counter silentOperations;
+
+  MicrometerBulkApiMetrics(ApplicationContext appCtx,
+      DefaultBulkApiService service) {
+    MeterRegistry bean = BulkApiBeans.findBean(appCtx, MeterRegistry.class);
+    registry = bean == null ? Metrics.globalRegistry : bean;
+
+    successfulBulks = bulkTimer("success");
+    failedBulks = bulkTimer("error");
+    operationCounts = DistributionSummary
+        .builder("bulk.api.requests.operations")
+        .description("Number of operations per bulk request")
+        .baseUnit("operations").publishPercentileHistogram().register(registry);
+    silentOperations = Counter.builder("bulk.api.operations.silent")
+        .description("Operations whose results are not returned")
+        .register(registry);
+
+    FunctionCounter.builder("bulk.api.operations.coalesced", service,
+        DefaultBulkApiService::getCoalescedCount)
+        .description("Executions saved by coalescing identical operations")
+        .register(registry);
+    FunctionCounter.builder("bulk.api.response.cache", service,
+        DefaultBulkApiService::getResponseCacheHitCount).tag("result", "hit")
+        .description("Operations answered by the response cache")
+        .register(registry);
+    FunctionCounter.builder("bulk.api.response.cache", service,
+        DefaultBulkApiService::getResponseCacheMissCount).tag("result", "miss")
+        .description("Cacheable operations not answered by the response cache")
+        .register(registry);
+
+    // The concurrency limit is positive only if it is enabled
+    if (service.getConcurrencyLimit() > 0) {
+      Gauge.builder("bulk.api.concurrency.limit", service,
+          DefaultBulkApiService::getConcurrencyLimit)
+          .description("Adaptive limit of bulk operations in flight")
+          .baseUnit("operations").register(registry);
+      Gauge.builder("bulk.api.concurrency.in-flight", service,
+          DefaultBulkApiService::getConcurrencyInFlight)
+          .description("Bulk operations in flight counted against the limit")
+          .baseUnit("operations").register(registry);
+    }
+
+    BulkApiValidator validator = service.getValidator();
+    FunctionCounter.builder("bulk.api.validation.cache", validator,
+        BulkApiValidator::getCacheHitCount).tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("bulk.api.validation.cache", validator,
+        BulkApiValidator::getCacheMissCount).tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("bulk.api.validation.cache", validator,
+        BulkApiValidator::getCacheEvictionCount).tag("result", "eviction")
+        .register(registry);
+  }
+
+  private Timer bulkTimer(String outcome) {
+    return Timer.builder("bulk.api.requests")
+        .description("End-to-end latency of bulk requests")
+        .tag("outcome", outcome).register(registry);
+  }
+
+  @Override
+  public long start() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public void bulkFinished(int operationCount, long start, boolean success) {
+    (success ? successfulBulks : failedBulks).record(System.nanoTime() - start,
+        NANOSECONDS);
+    operationCounts.record(operationCount);
+  }
+
+  @Override
+  public void operationFinished(BulkOperationPlan plan, long start,
+      int status) {
+    RoutingPath rp = plan.getRoutingPath();
+    Timer.builder("bulk.api.operations")
+        .description("Latency of executed bulk operations")
+        .tag("route", rp == null ? "UNKNOWN" : rp.getRawPath())
+        .tag("method", plan.getMethod().name())
+        .tag("status", statusClass(status)).register(registry)
+        .record(System.nanoTime() - start, NANOSECONDS);
+  }
+
+  @Override
+  public void result(int status, boolean silent) {
+    Counter.builder("bulk.api.results")
+        .description("Results of bulk operations, executed or not")
+        .tag("status", statusClass(status)).register(registry).increment();
+    if (silent) silentOperations.increment();
+  }
+
+  @Override
+  public void rejected(BulkApiException e) {
+    Counter.builder("bulk.api.rejections")
+        .description("Bulk requests rejected before any operation ran")
+        .tag("reason", reasonOf(e))
+        .tag("status", String.valueOf(e.getStatus().value())).register(registry)
+        .increment();
+  }
+
+  private static String statusClass(int status) {
+    return status >= 100 && status < 600 ? status / 100 + "xx" : "UNKNOWN";
+  }
+
+  private static String reasonOf(BulkApiException e) {
+    switch (e.getStatus()) {
+      case BAD_REQUEST:
+      case UNSUPPORTED_MEDIA_TYPE:
+        return "invalid-request";
+      case PAYLOAD_TOO_LARGE:
+        return "limit";
+      case UNPROCESSABLE_ENTITY:
+        return "invalid-operation";
+      case TOO_MANY_REQUESTS:
+        return "concurrency-limit";
+      case SERVICE_UNAVAILABLE:
+        return "overloaded";
+      default:
+        return e.getStatus().name().toLowerCase().replace('_', '-');
+    }
+  }
+
+}
@@ -23,9 +23,17 @@ final class PathValidationResult {
 
   private final boolean requestBody;
 
+  private final RoutingPath routingPath;
+
   public PathValidationResult(boolean valid, boolean requestBody) {
+    this(valid, requestBody, null);
+  }
+
+  public PathValidationResult(boolean valid, boolean requestBody,
+      RoutingPath routingPath) {
     this.valid = valid;
     this.requestBody = requestBody;
+    this.routingPath = routingPath;
   }
 
   public boolean isValid() {
@@ -36,11 +44,16 @@ final class PathValidationResult {
     return requestBody;
   }
 
+  public RoutingPath getRoutingPath() {
+    return routingPath;
+  }
+
   @Override
   public int hashCode() {
     int result = 27;
     result = result ^ 31 + (valid ? 1 : 0);
     result = result ^ 31 + (requestBody ? 1 : 0);
+    result = result ^ 31 + (routingPath == null ? 0 : routingPath.hashCode());
     return result;
   }
 
@@ -50,13 +63,15 @@ final class PathValidationResult {
     if (obj == null) return false;
     if (!(obj instanceof PathValidationResult)) return false;
     PathValidationResult pvr = (PathValidationResult) obj;
-    return valid == pvr.valid && requestBody == pvr.requestBody;
+    return valid == pvr.valid && requestBody == pvr.requestBody
+        && (routingPath == null ? pvr.routingPath == null
+            : routingPath.equals(pvr.routingPath));
   }
 
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{valid=" + valid + ", requestBody="
-        + requestBody + "}";
+        + requestBody + ", routingPath=" + routingPath + "}";
   }
 
 }
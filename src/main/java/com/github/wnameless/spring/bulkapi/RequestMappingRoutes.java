@@ -0,0 +1,213 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ *
+ * {@link RequestMappingRoutes} finds the {@link RoutingPath} of a request path
+ * and method the same way as a {@link RequestMappingHandlerMapping} picks a
+ * handler method by URL.<br>
+ * <br>
+ * Each route keeps a {@link PatternsRequestCondition} of its pattern with the
+ * path matcher, suffix pattern and trailing slash settings of the handler
+ * mapping, and the most specific matching pattern wins, an earlier route wins
+ * a tie.<br>
+ * <br>
+ * With an {@link AntPathMatcher}, a segment trie per method over the patterns
+ * collects the candidate routes whose literal segments fit the request path,
+ * ignoring case and a file extension of the last segment, and only the
+ * candidates are confirmed by their condition. Any other path matcher makes
+ * every route a candidate.
+ *
+ */
+final class RequestMappingRoutes implements RoutingPathFinder {
+
+  private static final class Route {
+
+    final int order;
+    final RoutingPath routingPath;
+    final PatternsRequestCondition condition;
+
+    Route(int order, RoutingPath routingPath,
+        PatternsRequestCondition condition) {
+      this.order = order;
+      this.routingPath = routingPath;
+      this.condition = condition;
+    }
+
+  }
+
+  private static final class Node {
+
+    final Map<String, Node> literals = new HashMap<>();
+    Node variable;
+    final List<Route> terminals = new ArrayList<>();
+    final List<Route> remainders = new ArrayList<>();
+
+    Node child(String segment) {
+      if (isLiteral(segment)) {
+        return literals.computeIfAbsent(lowerCase(segment), key -> new Node());
+      }
+      if (variable == null) variable = new Node();
+      return variable;
+    }
+
+  }
+
+  private final RequestMappingHandlerMapping handlerMapping;
+  private final PathMatcher pathMatcher;
+  private final boolean indexable;
+  private final Map<RequestMethod, Node> tries =
+      new EnumMap<>(RequestMethod.class);
+  private final Map<RequestMethod, List<Route>> unindexed =
+      new EnumMap<>(RequestMethod.class);
+  private int order;
+
+  RequestMappingRoutes(RequestMappingHandlerMapping handlerMapping) {
+    this.handlerMapping = handlerMapping;
+    pathMatcher = handlerMapping.getPathMatcher();
+    indexable = pathMatcher.getClass() == AntPathMatcher.class;
+  }
+
+  /**
+   * Adds a route which is matched by given pattern.
+   *
+   * @param routingPath
+   *          a {@link RoutingPath}
+   * @param pattern
+   *          a URL pattern of the {@link RequestMappingHandlerMapping}
+   */
+  void add(RoutingPath routingPath, String pattern) {
+    PatternsRequestCondition condition = new PatternsRequestCondition(
+        new String[] { pattern }, handlerMapping.getUrlPathHelper(),
+        pathMatcher, handlerMapping.useSuffixPatternMatch(),
+        handlerMapping.useTrailingSlashMatch(),
+        handlerMapping.getFileExtensions());
+    Route route = new Route(order++, routingPath, condition);
+    RequestMethod method = routingPath.getMethod();
+    if (!indexable) {
+      unindexed.computeIfAbsent(method, key -> new ArrayList<>()).add(route);
+      return;
+    }
+
+    Node node = tries.computeIfAbsent(method, key -> new Node());
+    for (String segment : segments(pattern)) {
+      if (segment.equals("**")) {
+        node.remainders.add(route);
+        return;
+      }
+      node = node.child(segment);
+    }
+    node.terminals.add(route);
+  }
+
+  @Override
+  public RoutingPath find(String requestPath, RequestMethod method) {
+    Map<Integer, Route> candidates = new TreeMap<>();
+    List<Route> all = unindexed.get(method);
+    if (all != null) {
+      for (Route route : all) {
+        candidates.put(route.order, route);
+      }
+    }
+    Node root = tries.get(method);
+    if (root != null) {
+      collect(root, segments(requestPath), 0, candidates);
+    }
+
+    Comparator<String> comparator = null;
+    RoutingPath best = null;
+    String bestPattern = null;
+    for (Route route : candidates.values()) {
+      List<String> patterns = route.condition.getMatchingPatterns(requestPath);
+      if (patterns.isEmpty()) continue;
+
+      String pattern = patterns.get(0);
+      if (best == null) {
+        comparator = pathMatcher.getPatternComparator(requestPath);
+      } else if (comparator.compare(pattern, bestPattern) >= 0) {
+        continue;
+      }
+      best = route.routingPath;
+      bestPattern = pattern;
+    }
+    return best;
+  }
+
+  private static void collect(Node node, String[] segments, int idx,
+      Map<Integer, Route> candidates) {
+    for (Route route : node.remainders) {
+      candidates.put(route.order, route);
+    }
+    if (idx == segments.length) {
+      for (Route route : node.terminals) {
+        candidates.put(route.order, route);
+      }
+      return;
+    }
+
+    String segment = lowerCase(segments[idx]);
+    Node literal = node.literals.get(segment);
+    if (literal != null) collect(literal, segments, idx + 1, candidates);
+    // A suffix pattern match may drop the file extension of the last segment
+    int dot = segment.lastIndexOf('.');
+    if (idx == segments.length - 1 && dot > 0) {
+      Node stem = node.literals.get(segment.substring(0, dot));
+      if (stem != null && stem != literal) {
+        collect(stem, segments, idx + 1, candidates);
+      }
+    }
+    if (node.variable != null) {
+      collect(node.variable, segments, idx + 1, candidates);
+    }
+  }
+
+  /**
+   * Splits a path into segments the way the {@link AntPathMatcher} tokenizes
+   * it, empty segments are dropped.
+   */
+  private static String[] segments(String path) {
+    return StringUtils.tokenizeToStringArray(path, "/", false, true);
+  }
+
+  private static boolean isLiteral(String segment) {
+    return segment.indexOf('*') < 0 && segment.indexOf('?') < 0
+        && segment.indexOf('{') < 0;
+  }
+
+  private static String lowerCase(String segment) {
+    return segment.toLowerCase(Locale.ROOT);
+  }
+
+}
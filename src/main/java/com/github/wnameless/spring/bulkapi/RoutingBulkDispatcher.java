@@ -0,0 +1,152 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_IN_PROCESS_PATHS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_LOOPBACK_PATHS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_MODE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_MODE_KEY;
+
+import java.net.URI;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ *
+ * {@link RoutingBulkDispatcher} picks the in-process or the loopback
+ * {@link BulkDispatcher} for each {@link BulkOperation}.<br>
+ * <br>
+ * The default mode is set by {@code spring.bulk.api.dispatch.mode}, loopback
+ * unless configured otherwise, and
+ * comma-separated Ant-style path patterns in
+ * {@code spring.bulk.api.dispatch.loopback-paths} and
+ * {@code spring.bulk.api.dispatch.in-process-paths} override it per route. An
+ * operation whose {@link URI} has been transformed to another host is always
+ * sent by loopback, and so is an operation running on a thread without the
+ * request context of the bulk request.
+ *
+ */
+final class RoutingBulkDispatcher implements BulkDispatcher {
+
+  /**
+   * {@link Mode} lists all supported dispatch modes.
+   */
+  enum Mode {
+
+    IN_PROCESS, LOOPBACK;
+
+    static Mode of(String value) {
+      return Mode.valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+
+  }
+
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+
+  private final Mode mode;
+  private final String[] loopbackPaths;
+  private final String[] inProcessPaths;
+
+  private final InProcessBulkDispatcher inProcessDispatcher;
+  private final LoopbackBulkDispatcher loopbackDispatcher;
+
+  RoutingBulkDispatcher(ApplicationContext appCtx) {
+    Environment env = appCtx.getEnvironment();
+    mode = Mode.of(env.getProperty(BULK_API_DISPATCH_MODE_KEY,
+        BULK_API_DISPATCH_MODE_DEFAULT));
+    loopbackPaths = StringUtils.commaDelimitedListToStringArray(
+        env.getProperty(BULK_API_DISPATCH_LOOPBACK_PATHS_KEY, ""));
+    inProcessPaths = StringUtils.commaDelimitedListToStringArray(
+        env.getProperty(BULK_API_DISPATCH_IN_PROCESS_PATHS_KEY, ""));
+
+    inProcessDispatcher = new InProcessBulkDispatcher(appCtx);
+    loopbackDispatcher = new LoopbackBulkDispatcher(appCtx);
+  }
+
+  @Override
+  public ResponseEntity<byte[]> dispatch(BulkOperationPlan plan,
+      Map<String, String> headers, HttpServletRequest servReq) {
+    return select(plan, servReq).dispatch(plan, headers, servReq);
+  }
+
+  /**
+   * Releases resources held by all dispatchers.
+   */
+  void shutdown() {
+    loopbackDispatcher.shutdown();
+  }
+
+  /**
+   * Returns the dispatch {@link Mode} of given operation.
+   *
+   * @param path
+   *          the urlified path of an operation
+   * @param uri
+   *          the computed {@link URI} of an operation
+   * @param servReq
+   *          the {@link HttpServletRequest} of the bulk request
+   * @return a dispatch {@link Mode}
+   */
+  Mode modeOf(String path, URI uri, HttpServletRequest servReq) {
+    if (!isLocal(uri, servReq) || !inProcessDispatcher.isAvailable()
+        || RequestContextHolder.getRequestAttributes() == null) {
+      return Mode.LOOPBACK;
+    }
+
+    if (mode == Mode.IN_PROCESS) {
+      return matches(loopbackPaths, path) ? Mode.LOOPBACK : Mode.IN_PROCESS;
+    } else {
+      return matches(inProcessPaths, path) ? Mode.IN_PROCESS : Mode.LOOPBACK;
+    }
+  }
+
+  private BulkDispatcher select(BulkOperationPlan plan,
+      HttpServletRequest servReq) {
+    return modeOf(plan.getPath(), plan.getUri(), servReq) == Mode.IN_PROCESS
+        ? inProcessDispatcher : loopbackDispatcher;
+  }
+
+  private boolean matches(String[] patterns, String path) {
+    for (String pattern : patterns) {
+      if (pathMatcher.match(pattern.trim(), path)) return true;
+    }
+    return false;
+  }
+
+  private static boolean isLocal(URI uri, HttpServletRequest servReq) {
+    if (uri.getHost() == null) return false;
+
+    return uri.getHost().equalsIgnoreCase(servReq.getServerName())
+        && port(uri.getPort(), uri.getScheme()) == servReq.getServerPort();
+  }
+
+  private static int port(int port, String scheme) {
+    if (port >= 0) return port;
+    return "https".equalsIgnoreCase(scheme) ? 443 : 80;
+  }
+
+}
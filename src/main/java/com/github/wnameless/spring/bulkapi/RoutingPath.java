@@ -5,6 +5,7 @@ import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ForwardingList;
 import com.google.common.collect.Lists;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 
 import java.lang.annotation.Annotation;
@@ -20,6 +21,9 @@ public final class RoutingPath {
     private final List<Annotation> classAnnotations;
     private final List<Annotation> methodAnnotations;
     private final List<List<Annotation>> parameterAnnotations = Lists.newArrayList();
+    private final boolean bulkable;
+    private final boolean acceptBulk;
+    private final int requestBodyIndex;
 
     public RoutingPath(RequestMethod method, String rawPath, String path, Pattern regexPath, Annotation[] classAnnotations, Annotation[] methodAnnotations, Annotation[][] parameterAnnotations) {
         this.method = (RequestMethod) Preconditions.checkNotNull(method);
@@ -36,6 +40,26 @@ public final class RoutingPath {
             this.parameterAnnotations.add(Lists.newArrayList(annos));
         }
 
+        Bulkable bulkableAnno = findAnnotation(classAnnotations, Bulkable.class);
+        this.acceptBulk = findAnnotation(methodAnnotations, AcceptBulk.class) != null;
+        this.bulkable = bulkableAnno != null && (bulkableAnno.autoApply() || this.acceptBulk);
+        int bodyIndex = -1;
+        for (int i = 0; i < parameterAnnotations.length; ++i) {
+            if (findAnnotation(parameterAnnotations[i], RequestBody.class) != null) {
+                bodyIndex = i;
+                break;
+            }
+        }
+        this.requestBodyIndex = bodyIndex;
+    }
+
+    private static <A extends Annotation> A findAnnotation(Annotation[] annos, Class<A> annoType) {
+        for (Annotation anno : annos) {
+            if (anno.annotationType().equals(annoType)) {
+                return annoType.cast(anno);
+            }
+        }
+        return null;
     }
 
     public RequestMethod getMethod() {
@@ -66,6 +90,44 @@ public final class RoutingPath {
         return this.unmodifiableList2(this.parameterAnnotations);
     }
 
+    /**
+     * Checks if this route is annotated by {@link Bulkable}, and either the
+     * {@link Bulkable} applies automatically or the method is annotated by
+     * {@link AcceptBulk}.
+     *
+     * @return true if this route accepts bulk operations, false otherwise
+     */
+    public boolean isBulkable() {
+        return this.bulkable;
+    }
+
+    /**
+     * Checks if the method of this route is annotated by {@link AcceptBulk}.
+     *
+     * @return true if the method is annotated by {@link AcceptBulk}, false otherwise
+     */
+    public boolean isAcceptBulk() {
+        return this.acceptBulk;
+    }
+
+    /**
+     * Checks if any parameter of the method is annotated by {@link RequestBody}.
+     *
+     * @return true if the method takes a request body, false otherwise
+     */
+    public boolean hasRequestBody() {
+        return this.requestBodyIndex >= 0;
+    }
+
+    /**
+     * Returns the index of the first parameter annotated by {@link RequestBody}.
+     *
+     * @return a parameter index or -1 if there is none
+     */
+    public int getRequestBodyIndex() {
+        return this.requestBodyIndex;
+    }
+
     private <T> List<List<T>> unmodifiableList2(final List<List<T>> input) {
         return Collections.unmodifiableList(new ForwardingList<List<T>>() {
             protected List<List<T>> delegate() {
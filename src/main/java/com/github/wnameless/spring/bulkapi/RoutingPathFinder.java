@@ -0,0 +1,41 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ *
+ * {@link RoutingPathFinder} finds the {@link RoutingPath} which serves a
+ * request path and method.
+ *
+ */
+interface RoutingPathFinder {
+
+  /**
+   * Returns the {@link RoutingPath} of given request path and method.
+   *
+   * @param requestPath
+   *          a request path
+   * @param method
+   *          a {@link RequestMethod}
+   * @return a {@link RoutingPath} or null if nothing matches
+   */
+  RoutingPath find(String requestPath, RequestMethod method);
+
+}
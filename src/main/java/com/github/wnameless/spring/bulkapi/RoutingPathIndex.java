@@ -0,0 +1,237 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ *
+ * {@link RoutingPathIndex} finds the {@link RoutingPath} of a request path and
+ * method without scanning all routes.<br>
+ * <br>
+ * Exact paths are looked up by a hash map. Otherwise a segment trie per
+ * method collects the candidate routes whose literal segments, {@code {var}},
+ * {@code *} and {@code **} fit the request path, and each candidate is
+ * confirmed by its precompiled regex path, so matching stays the same as the
+ * regex computed by {@link RoutingPathResolver}. Routes whose wildcards may
+ * cross a {@code /}, ex: {@code ?}, are always confirmed by their regex path.
+ * When several routes match, the first resolved one wins, and an exact match
+ * always comes first.
+ *
+ */
+final class RoutingPathIndex implements RoutingPathFinder {
+
+  private static final Pattern PATH_VAR = Pattern.compile("\\{[^}]+\\}");
+
+  private static final class Route {
+
+    final int order;
+    final RoutingPath routingPath;
+
+    Route(int order, RoutingPath routingPath) {
+      this.order = order;
+      this.routingPath = routingPath;
+    }
+
+    boolean matches(String requestPath) {
+      return routingPath.getRegexPath().matcher(requestPath).matches();
+    }
+
+  }
+
+  private static final class Node {
+
+    final Map<String, Node> literals = new HashMap<>();
+    Node variable;
+    Node wildcard;
+    final List<Route> terminals = new ArrayList<>();
+    final List<Route> remainders = new ArrayList<>();
+
+    Node child(String segment) {
+      if (segment.equals("*")) {
+        if (wildcard == null) wildcard = new Node();
+        return wildcard;
+      }
+      if (PATH_VAR.matcher(segment).matches()) {
+        if (variable == null) variable = new Node();
+        return variable;
+      }
+      return literals.computeIfAbsent(segment, key -> new Node());
+    }
+
+  }
+
+  private final Map<RequestMethod, Map<String, RoutingPath>> exactPaths =
+      new EnumMap<>(RequestMethod.class);
+  private final Map<RequestMethod, Node> tries =
+      new EnumMap<>(RequestMethod.class);
+  private final Map<RequestMethod, List<Route>> fallbacks =
+      new EnumMap<>(RequestMethod.class);
+
+  /**
+   * Creates a {@link RoutingPathIndex} of given routes.
+   *
+   * @param routingPaths
+   *          {@link RoutingPath}s in resolving order
+   */
+  RoutingPathIndex(Collection<RoutingPath> routingPaths) {
+    int order = 0;
+    for (RoutingPath routingPath : routingPaths) {
+      RequestMethod method = routingPath.getMethod();
+      exactPaths.computeIfAbsent(method, key -> new HashMap<>())
+          .putIfAbsent(routingPath.getPath(), routingPath);
+
+      Route route = new Route(order++, routingPath);
+      String[] segments = segments(routingPath.getPath());
+      if (!isIndexable(segments)) {
+        fallbacks.computeIfAbsent(method, key -> new ArrayList<>()).add(route);
+        continue;
+      }
+
+      Node node = tries.computeIfAbsent(method, key -> new Node());
+      boolean remainder = false;
+      for (String segment : segments) {
+        if (segment.equals("**")) {
+          node.remainders.add(route);
+          remainder = true;
+          break;
+        }
+        node = node.child(segment);
+      }
+      if (!remainder) node.terminals.add(route);
+    }
+  }
+
+  @Override
+  public RoutingPath find(String requestPath, RequestMethod method) {
+    Map<String, RoutingPath> exact = exactPaths.get(method);
+    if (exact != null) {
+      RoutingPath routingPath = exact.get(requestPath);
+      if (routingPath != null) return routingPath;
+    }
+
+    Route best = null;
+    List<Route> fallback = fallbacks.get(method);
+    if (fallback != null) {
+      for (Route route : fallback) {
+        if (route.matches(requestPath)) {
+          best = route;
+          break;
+        }
+      }
+    }
+
+    Node root = tries.get(method);
+    if (root != null) {
+      for (String body : bodies(requestPath)) {
+        if (body != null) {
+          best = find(root, body.split("/", -1), 0, requestPath, best);
+        }
+      }
+    }
+
+    return best == null ? null : best.routingPath;
+  }
+
+  private static Route find(Node node, String[] segments, int idx,
+      String requestPath, Route best) {
+    best = firstMatch(node.remainders, requestPath, best);
+    if (idx == segments.length) {
+      return firstMatch(node.terminals, requestPath, best);
+    }
+
+    String segment = segments[idx];
+    Node literal = node.literals.get(segment);
+    if (literal != null) {
+      best = find(literal, segments, idx + 1, requestPath, best);
+    }
+    if (node.variable != null && !segment.isEmpty()) {
+      best = find(node.variable, segments, idx + 1, requestPath, best);
+    }
+    if (node.wildcard != null) {
+      best = find(node.wildcard, segments, idx + 1, requestPath, best);
+    }
+    return best;
+  }
+
+  private static Route firstMatch(List<Route> routes, String requestPath,
+      Route best) {
+    for (Route route : routes) {
+      if (best != null && best.order < route.order) break;
+      if (route.matches(requestPath)) return route;
+    }
+    return best;
+  }
+
+  /**
+   * Splits a route path into segments without its leading and trailing slash.
+   */
+  private static String[] segments(String path) {
+    int begin = path.startsWith("/") ? 1 : 0;
+    int end = path.length();
+    if (end > begin && path.endsWith("/")) end--;
+    return path.substring(begin, end).split("/", -1);
+  }
+
+  /**
+   * Returns all distinct ways to drop the optional leading and trailing slash
+   * of a request path, because an empty {@code *} segment of the regex path
+   * may take either slash instead. Duplicates are returned as null.
+   */
+  private static String[] bodies(String path) {
+    String[] bodies = new String[4];
+    bodies[0] = path;
+    boolean leading = path.startsWith("/");
+    boolean trailing = path.length() > 1 && path.endsWith("/");
+    if (leading) bodies[1] = path.substring(1);
+    if (trailing) bodies[2] = path.substring(0, path.length() - 1);
+    if (leading && trailing) bodies[3] = path.substring(1, path.length() - 1);
+    return bodies;
+  }
+
+  /**
+   * Checks if all segments are literals, {@code {var}}s, {@code **}s or at most
+   * one {@code *}, which never match across a {@code /} by themselves.
+   */
+  private static boolean isIndexable(String[] segments) {
+    int wildcards = 0;
+    for (String segment : segments) {
+      if (segment.equals("*")) {
+        if (++wildcards > 1) return false;
+        continue;
+      }
+      if (segment.equals("**") || PATH_VAR.matcher(segment).matches()) {
+        continue;
+      }
+      for (int i = 0; i < segment.length(); i++) {
+        char ch = segment.charAt(i);
+        if (ch == '*' || ch == '?' || ch == '{' || ch == '}') return false;
+      }
+    }
+    return true;
+  }
+
+}
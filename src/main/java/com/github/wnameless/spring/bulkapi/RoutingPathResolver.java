@@ -3,11 +3,17 @@ package com.github.wnameless.spring.bulkapi;
 import com.google.common.base.Predicate;
 import com.google.common.collect.*;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -21,6 +27,7 @@ public final class RoutingPathResolver {
     private static final Pattern ANT_Q = Pattern.compile("\\?");
     private final Environment env;
     private final Set<RoutingPath> routingPaths = Sets.newLinkedHashSet();
+    private final RoutingPathFinder routingPathFinder;
 
     public RoutingPathResolver(ApplicationContext appCtx, String... basePackages) {
         this.env = appCtx.getEnvironment();
@@ -71,7 +78,7 @@ public final class RoutingPathResolver {
                     Map.Entry<String, RequestMethod> rawPathAndMethod = (Map.Entry) var11.next();
                     String rawPath = (String) rawPathAndMethod.getKey();
                     String path = this.computePath(rawPath);
-                    String regexPath = this.computeRegexPath(path);
+                    String regexPath = computeRegexPath(path);
                     this.routingPaths.add(new RoutingPath((RequestMethod) rawPathAndMethod.getValue(), rawPath, path, Pattern.compile(regexPath),
                             bean.getClass().getSimpleName().contains("$$") ? bean.getClass().getSuperclass().getAnnotations() : bean.getClass().getAnnotations(),
                             method.getAnnotations(), method.getParameterAnnotations()));
@@ -79,6 +86,48 @@ public final class RoutingPathResolver {
             }
         }
 
+        this.routingPathFinder = new RoutingPathIndex(this.routingPaths);
+    }
+
+    /**
+     * Creates a {@link RoutingPathResolver} from the handler methods already registered in given
+     * {@link RequestMappingHandlerMapping}, so controllers are not scanned again and request paths
+     * are matched the same way as the handler mapping does.
+     *
+     * @param appCtx the Spring {@link ApplicationContext}
+     * @param handlerMapping a {@link RequestMappingHandlerMapping}
+     * @param basePackages packages of controllers to keep
+     */
+    public RoutingPathResolver(ApplicationContext appCtx, RequestMappingHandlerMapping handlerMapping, String... basePackages) {
+        this.env = appCtx.getEnvironment();
+        RequestMappingRoutes routes = new RequestMappingRoutes(handlerMapping);
+
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            Class<?> beanType = ClassUtils.getUserClass(entry.getValue().getBeanType());
+            if (!isInPackages(beanType.getPackage().getName(), basePackages)) {
+                continue;
+            }
+
+            Method method = entry.getValue().getMethod();
+            Annotation[] classAnnotations = mergedAnnotations(beanType, Bulkable.class);
+            Annotation[] methodAnnotations = mergedAnnotations(method, AcceptBulk.class);
+            Set<RequestMethod> requestMethods = entry.getKey().getMethodsCondition().getMethods();
+            if (requestMethods.isEmpty()) {
+                requestMethods = EnumSet.allOf(RequestMethod.class);
+            }
+
+            for (String pattern : entry.getKey().getPatternsCondition().getPatterns()) {
+                for (RequestMethod requestMethod : requestMethods) {
+                    RoutingPath routingPath = new RoutingPath(requestMethod, pattern, pattern, Pattern.compile(computeRegexPath(pattern)),
+                            classAnnotations, methodAnnotations, method.getParameterAnnotations());
+                    if (this.routingPaths.add(routingPath)) {
+                        routes.add(routingPath, pattern);
+                    }
+                }
+            }
+        }
+
+        this.routingPathFinder = routes;
     }
 
     public List<RoutingPath> getRoutingPaths() {
@@ -131,29 +180,8 @@ public final class RoutingPathResolver {
         return paths;
     }
 
-    public com.github.wnameless.spring.bulkapi.RoutingPath findByRequestPathAndMethod(String requestPath, RequestMethod method) {
-        Iterator var3 = this.routingPaths.iterator();
-
-        com.github.wnameless.spring.bulkapi.RoutingPath routingPath;
-        do {
-            if (!var3.hasNext()) {
-                var3 = this.routingPaths.iterator();
-
-                do {
-                    if (!var3.hasNext()) {
-                        return null;
-                    }
-
-                    routingPath = (com.github.wnameless.spring.bulkapi.RoutingPath) var3.next();
-                } while (!requestPath.matches(routingPath.getRegexPath().pattern()) || !routingPath.getMethod().equals(method));
-
-                return routingPath;
-            }
-
-            routingPath = (com.github.wnameless.spring.bulkapi.RoutingPath) var3.next();
-        } while (!routingPath.getPath().equals(requestPath) || !routingPath.getMethod().equals(method));
-
-        return routingPath;
+    public RoutingPath findByRequestPathAndMethod(String requestPath, RequestMethod method) {
+        return this.routingPathFinder.find(requestPath, method);
     }
 
     public List<RoutingPath> findByRequestPath(String requestPath) {
@@ -164,7 +192,7 @@ public final class RoutingPathResolver {
             RoutingPath routingPath = (RoutingPath) var3.next();
             if (routingPath.getPath().equals(requestPath)) {
                 paths.add(routingPath);
-            } else if (requestPath.matches(routingPath.getRegexPath().pattern())) {
+            } else if (routingPath.getRegexPath().matcher(requestPath).matches()) {
                 paths.add(routingPath);
             }
         }
@@ -239,7 +267,7 @@ public final class RoutingPathResolver {
         return rawPathsAndMethods;
     }
 
-    private String computeRegexPath(String path) {
+    static String computeRegexPath(String path) {
         path = Regexs.escapeSpecialCharacters(path, PLACEHOLDER, PATH_VAR, ANT_AA, ANT_A, ANT_Q);
 
         Matcher m;
@@ -289,6 +317,35 @@ public final class RoutingPathResolver {
         return path;
     }
 
+    /**
+     * Returns annotations of given element, and the merged one of given type if it is only present
+     * as a meta-annotation.
+     */
+    private static Annotation[] mergedAnnotations(AnnotatedElement element, Class<? extends Annotation> annoType) {
+        Annotation[] annos = element.getAnnotations();
+        if (element.isAnnotationPresent(annoType)) {
+            return annos;
+        }
+
+        Annotation merged = AnnotatedElementUtils.findMergedAnnotation(element, annoType);
+        if (merged == null) {
+            return annos;
+        }
+
+        Annotation[] mergedAnnos = Arrays.copyOf(annos, annos.length + 1);
+        mergedAnnos[annos.length] = merged;
+        return mergedAnnos;
+    }
+
+    private static boolean isInPackages(String beanPackage, String... basePackages) {
+        for (String packageName : basePackages) {
+            if (beanPackage.equals(packageName) || beanPackage.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void retainBeansByPackageNames(Map<String, Object> beans, String... basePackages) {
         Iterator<Object> beansIter = beans.values().iterator();
 
@@ -0,0 +1,204 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ *
+ * {@link Utf8Body} writes an UTF-8 encoded body into JSON without decoding it
+ * into a {@link String}. A {@link JsonGenerator} which writes bytes copies a
+ * raw JSON body as it is and escapes any other body byte by byte, other
+ * generators fall back to a decoded {@link String}. Since bytes are copied
+ * as they are, bodies must be checked by {@link #isValid(byte[])} first.
+ *
+ */
+final class Utf8Body implements SerializableString {
+
+  private final byte[] bytes;
+
+  private Utf8Body(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Checks if given bytes are well-formed UTF-8, without overlong forms,
+   * surrogates or code points above U+10FFFF.
+   *
+   * @param bytes
+   *          any bytes
+   * @return true if the bytes are valid UTF-8, false otherwise
+   */
+  static boolean isValid(byte[] bytes) {
+    int i = 0;
+    int len = bytes.length;
+    while (i < len) {
+      int b = bytes[i++];
+      if (b >= 0) continue;
+
+      int trailing;
+      int min;
+      if ((b & 0xE0) == 0xC0) {
+        trailing = 1;
+        min = 0x80;
+        b &= 0x1F;
+      } else if ((b & 0xF0) == 0xE0) {
+        trailing = 2;
+        min = 0x800;
+        b &= 0x0F;
+      } else if ((b & 0xF8) == 0xF0) {
+        trailing = 3;
+        min = 0x10000;
+        b &= 0x07;
+      } else {
+        return false;
+      }
+      if (i + trailing > len) return false;
+
+      int cp = b;
+      for (int j = 0; j < trailing; j++) {
+        int next = bytes[i++];
+        if ((next & 0xC0) != 0x80) return false;
+        cp = (cp << 6) | (next & 0x3F);
+      }
+      if (cp < min || cp > 0x10FFFF || (cp >= 0xD800 && cp <= 0xDFFF)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes an UTF-8 encoded body as a JSON value.
+   *
+   * @param gen
+   *          a {@link JsonGenerator}
+   * @param bytes
+   *          a valid UTF-8 encoded body
+   * @param rawJson
+   *          true if the body is JSON which is written verbatim, false if it
+   *          is written as a JSON string
+   * @throws IOException
+   *           if the body can't be written
+   */
+  static void write(JsonGenerator gen, byte[] bytes, boolean rawJson)
+      throws IOException {
+    if (!(gen.getOutputTarget() instanceof OutputStream)) {
+      String text = new String(bytes, StandardCharsets.UTF_8);
+      if (rawJson) {
+        gen.writeRawValue(text);
+      } else {
+        gen.writeString(text);
+      }
+      return;
+    }
+
+    if (rawJson) {
+      gen.writeRawValue(new Utf8Body(bytes));
+    } else {
+      gen.writeUTF8String(bytes, 0, bytes.length);
+    }
+  }
+
+  @Override
+  public String getValue() {
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public int charLength() {
+    return getValue().length();
+  }
+
+  @Override
+  public char[] asQuotedChars() {
+    return quoted().asQuotedChars();
+  }
+
+  @Override
+  public byte[] asUnquotedUTF8() {
+    return bytes;
+  }
+
+  @Override
+  public byte[] asQuotedUTF8() {
+    return quoted().asQuotedUTF8();
+  }
+
+  @Override
+  public int appendQuotedUTF8(byte[] buffer, int offset) {
+    return quoted().appendQuotedUTF8(buffer, offset);
+  }
+
+  @Override
+  public int appendQuoted(char[] buffer, int offset) {
+    return quoted().appendQuoted(buffer, offset);
+  }
+
+  @Override
+  public int appendUnquotedUTF8(byte[] buffer, int offset) {
+    if (offset + bytes.length > buffer.length) return -1;
+    System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+    return bytes.length;
+  }
+
+  @Override
+  public int appendUnquoted(char[] buffer, int offset) {
+    return quoted().appendUnquoted(buffer, offset);
+  }
+
+  @Override
+  public int writeQuotedUTF8(OutputStream out) throws IOException {
+    return quoted().writeQuotedUTF8(out);
+  }
+
+  @Override
+  public int writeUnquotedUTF8(OutputStream out) throws IOException {
+    out.write(bytes);
+    return bytes.length;
+  }
+
+  @Override
+  public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+    return quoted().putQuotedUTF8(buffer);
+  }
+
+  @Override
+  public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+    if (bytes.length > buffer.remaining()) return -1;
+    buffer.put(bytes);
+    return bytes.length;
+  }
+
+  private SerializedString quoted() {
+    return new SerializedString(getValue());
+  }
+
+  @Override
+  public String toString() {
+    return getValue();
+  }
+
+}
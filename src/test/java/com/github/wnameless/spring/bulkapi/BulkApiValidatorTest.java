@@ -0,0 +1,133 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_VALIDATION_CACHE_SIZE_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+public class BulkApiValidatorTest {
+
+  @Bulkable
+  @RestController
+  public static class Routes {
+
+    @GetMapping("/a")
+    public String a() {
+      return "a";
+    }
+
+    @GetMapping("/b/{id}")
+    public String b(@PathVariable("id") String id) {
+      return id;
+    }
+
+    @GetMapping("/c")
+    public String c() {
+      return "c";
+    }
+
+  }
+
+  private AnnotationConfigApplicationContext appCtx;
+  private BulkApiValidator validator;
+
+  @Before
+  public void setUp() {
+    appCtx = new AnnotationConfigApplicationContext();
+    appCtx.setEnvironment(new MockEnvironment()
+        .withProperty(BULK_API_VALIDATION_CACHE_SIZE_KEY, "2"));
+    appCtx.register(Routes.class);
+    appCtx.refresh();
+    validator = new BulkApiValidator(appCtx);
+  }
+
+  @After
+  public void tearDown() {
+    appCtx.close();
+  }
+
+  private void assertCounts(long hits, long misses, long evictions) {
+    assertEquals(hits, validator.getCacheHitCount());
+    assertEquals(misses, validator.getCacheMissCount());
+    assertEquals(evictions, validator.getCacheEvictionCount());
+  }
+
+  @Test
+  public void testQueryStringIsNotPartOfTheCacheKey() {
+    assertTrue(validator.validatePath("/a?x=1", HttpMethod.GET).isValid());
+    assertCounts(0, 1, 0);
+
+    assertTrue(validator.validatePath("/a?x=2", HttpMethod.GET).isValid());
+    assertTrue(validator.validatePath("/a", HttpMethod.GET).isValid());
+    assertCounts(2, 1, 0);
+  }
+
+  @Test
+  public void testMethodsAreCachedSeparately() {
+    assertTrue(validator.validatePath("/a", HttpMethod.GET).isValid());
+    assertFalse(validator.validatePath("/a", HttpMethod.POST).isValid());
+    assertCounts(0, 2, 0);
+
+    assertFalse(validator.validatePath("/a", HttpMethod.POST).isValid());
+    assertCounts(1, 2, 0);
+  }
+
+  @Test
+  public void testRejectedPathsAreCached() {
+    assertFalse(validator.validatePath("/nope", HttpMethod.GET).isValid());
+    assertFalse(validator.validatePath("/nope?x=1", HttpMethod.GET).isValid());
+    assertCounts(1, 1, 0);
+  }
+
+  @Test
+  public void testLeastRecentlyUsedPathIsEvicted() {
+    validator.validatePath("/a", HttpMethod.GET);
+    validator.validatePath("/b/1", HttpMethod.GET);
+    // Uses /a again, so /b/1 is the least recently used one
+    validator.validatePath("/a", HttpMethod.GET);
+    validator.validatePath("/c", HttpMethod.GET);
+    assertCounts(1, 3, 1);
+
+    validator.validatePath("/a", HttpMethod.GET);
+    assertCounts(2, 3, 1);
+
+    assertTrue(validator.validatePath("/b/1", HttpMethod.GET).isValid());
+    assertCounts(2, 4, 2);
+  }
+
+  @Test
+  public void testRefreshClearsTheCache() {
+    validator.validatePath("/a", HttpMethod.GET);
+    validator.refresh();
+    validator.validatePath("/a", HttpMethod.GET);
+    assertCounts(0, 2, 0);
+  }
+
+}
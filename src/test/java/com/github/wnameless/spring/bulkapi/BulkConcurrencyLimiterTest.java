@@ -0,0 +1,159 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_INITIAL_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MAX_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_MIN_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_KEY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+
+public class BulkConcurrencyLimiterTest {
+
+  private static BulkConcurrencyLimiter limiter(int initial, int min, int max) {
+    return BulkConcurrencyLimiter.of(new MockEnvironment()
+        .withProperty(BULK_API_CONCURRENCY_LIMIT_KEY, "true")
+        .withProperty(BULK_API_CONCURRENCY_LIMIT_INITIAL_KEY,
+            String.valueOf(initial))
+        .withProperty(BULK_API_CONCURRENCY_LIMIT_MIN_KEY, String.valueOf(min))
+        .withProperty(BULK_API_CONCURRENCY_LIMIT_MAX_KEY, String.valueOf(max))
+        .withProperty(BULK_API_CONCURRENCY_LIMIT_RETRY_AFTER_KEY, "3"));
+  }
+
+  private static void sample(BulkConcurrencyLimiter limiter, int times,
+      long rttMillis) {
+    for (int i = 0; i < times; i++) {
+      limiter.sample(MILLISECONDS.toNanos(rttMillis), false);
+    }
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    assertNull(BulkConcurrencyLimiter.of(new MockEnvironment()));
+  }
+
+  @Test
+  public void testLimitGrowsWhileLatencyIsSteady() {
+    BulkConcurrencyLimiter limiter = limiter(20, 4, 1000);
+    limiter.acquire(20);
+
+    sample(limiter, 10, 5);
+
+    assertTrue(limiter.getLimit() > 20);
+  }
+
+  @Test
+  public void testLimitDoesNotGrowWhenMostlyIdle() {
+    BulkConcurrencyLimiter limiter = limiter(20, 4, 1000);
+    limiter.acquire(5);
+
+    sample(limiter, 100, 5);
+
+    assertEquals(20, limiter.getLimit());
+  }
+
+  @Test
+  public void testLimitShrinksOnceLatencyRisesOverTolerance() {
+    BulkConcurrencyLimiter limiter = limiter(20, 4, 1000);
+    limiter.acquire(1000);
+    sample(limiter, 100, 5);
+    int limit = limiter.getLimit();
+
+    // 20% slower is within the tolerance
+    sample(limiter, 10, 6);
+    assertTrue(limiter.getLimit() >= limit);
+
+    limit = limiter.getLimit();
+    sample(limiter, 10, 50);
+    assertTrue(limiter.getLimit() < limit);
+    // Never below half per sample
+    assertTrue(limiter.getLimit() > 4);
+  }
+
+  @Test
+  public void testBackoffIsAppliedOncePerWindow() {
+    BulkConcurrencyLimiter limiter = limiter(100, 4, 1000);
+
+    limiter.sample(MILLISECONDS.toNanos(100), true);
+    assertEquals(90, limiter.getLimit());
+
+    for (int i = 0; i < 9; i++) {
+      limiter.sample(MILLISECONDS.toNanos(100), true);
+    }
+    assertEquals(90, limiter.getLimit());
+
+    limiter.sample(MILLISECONDS.toNanos(100), true);
+    assertEquals(81, limiter.getLimit());
+  }
+
+  @Test
+  public void testBurstOfTimeoutsDoesNotCollapseTheLimit() {
+    BulkConcurrencyLimiter limiter = limiter(100, 4, 1000);
+
+    for (int i = 0; i < 50; i++) {
+      limiter.sample(MILLISECONDS.toNanos(1000), true);
+    }
+
+    // 5 windows of 10 samples, 100 * 0.9^5
+    assertEquals(59, limiter.getLimit());
+  }
+
+  @Test
+  public void testBackoffStopsAtMinLimit() {
+    BulkConcurrencyLimiter limiter = limiter(20, 4, 1000);
+
+    for (int i = 0; i < 1000; i++) {
+      limiter.sample(MILLISECONDS.toNanos(1000), true);
+    }
+
+    assertEquals(4, limiter.getLimit());
+  }
+
+  @Test
+  public void testAcquireOverLimitIsRejected() {
+    BulkConcurrencyLimiter limiter = limiter(4, 4, 1000);
+    limiter.acquire(3);
+    limiter.acquire(1);
+
+    try {
+      limiter.acquire(1);
+      fail();
+    } catch (BulkApiException e) {
+      assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatus());
+      assertEquals("3", e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+    assertEquals(1, limiter.getRejectedCount());
+    assertEquals(4, limiter.getInFlight());
+
+    limiter.release(4);
+    // A bulk request over the limit is admitted when nothing is in flight
+    limiter.acquire(10);
+    assertEquals(10, limiter.getInFlight());
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_POOL_SIZE_KEY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+public class BulkOperationExecutorTest {
+
+  private GenericApplicationContext appCtx;
+  private BulkOperationExecutor executor;
+
+  @Before
+  public void setUp() {
+    appCtx = new GenericApplicationContext();
+    appCtx.setEnvironment(
+        new MockEnvironment().withProperty(BULK_API_PARALLEL_POOL_SIZE_KEY, "2"));
+    appCtx.refresh();
+    executor = new BulkOperationExecutor(appCtx);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+    appCtx.close();
+  }
+
+  private static long deadline(long millis) {
+    return System.nanoTime() + MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  public void testCancelledTaskHoldsItsPermitUntilItStops() {
+    AtomicBoolean ran = new AtomicBoolean();
+    List<Callable<String>> tasks = Arrays.asList(() -> {
+      // Ignores interruption like a blocking call would
+      long end = deadline(300);
+      while (System.nanoTime() < end) {}
+      return "slow";
+    }, () -> {
+      ran.set(true);
+      return "fast";
+    });
+
+    List<String> outcomes = executor.invokeAll(tasks,
+        new long[] { deadline(50), deadline(150) }, idx -> "timeout-" + idx);
+
+    assertEquals(Arrays.asList("timeout-0", "timeout-1"), outcomes);
+    assertFalse(ran.get());
+  }
+
+  @Test
+  public void testTimeoutThreadsAreBoundedByPoolSize() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    List<CompletableFuture<List<String>>> bulks = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      bulks.add(CompletableFuture.supplyAsync(() -> executor.invokeAll(
+          Arrays.<Callable<String>> asList(() -> {
+            threads.add(Thread.currentThread().getName());
+            Thread.sleep(100);
+            return "done";
+          }), new long[] { deadline(5000) }, idx -> "timeout")));
+    }
+
+    for (CompletableFuture<List<String>> bulk : bulks) {
+      assertEquals(Arrays.asList("done"), bulk.join());
+    }
+    assertTrue(threads.toString(), threads.size() <= 2);
+  }
+
+}
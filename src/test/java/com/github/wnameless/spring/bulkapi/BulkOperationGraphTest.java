@@ -0,0 +1,123 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+public class BulkOperationGraphTest {
+
+  @Test
+  public void testIndependentOperationsRunInOneWave() {
+    BulkOperationGraph graph =
+        new BulkOperationGraph(asList(op("a", "/a"), op(null, "/b")));
+
+    assertTrue(graph.isIndependent());
+    assertEquals(singletonList(asList(0, 1)), graph.waves());
+    assertEquals(singletonList(asList(0, 1)), graph.sequence());
+  }
+
+  @Test
+  public void testDependsOnAndReferencesMakeWaves() {
+    BulkOperation c = op("c", "/c/{result=a:/id}");
+    BulkOperation b = op("b", "/b");
+    b.setDependsOn(singletonList("c"));
+    BulkOperation d = op("d", "/d");
+    d.getHeaders().put("X-Id", "{result=a:/id}");
+
+    BulkOperationGraph graph =
+        new BulkOperationGraph(asList(op("a", "/a"), b, c, d));
+
+    assertFalse(graph.isIndependent());
+    assertEquals(asList(asList(0), asList(2, 3), asList(1)), graph.waves());
+    assertEquals(asList(asList(0), asList(2), asList(1), asList(3)),
+        graph.sequence());
+    assertEquals(singletonList(2), new ArrayList<>(graph.dependenciesOf(1)));
+    assertEquals(singletonList(0), new ArrayList<>(graph.dependenciesOf(3)));
+  }
+
+  @Test
+  public void testDuplicatedId() {
+    assertRejected(asList(op("a", "/a"), op("a", "/b")),
+        "Duplicated operation ID(a)");
+  }
+
+  @Test
+  public void testUnknownIdInDependsOn() {
+    BulkOperation b = op("b", "/b");
+    b.setDependsOn(singletonList("x"));
+
+    assertRejected(asList(op("a", "/a"), b), "Unknown operation ID(x)");
+  }
+
+  @Test
+  public void testUnknownIdInReference() {
+    BulkOperation b = op("b", "/b");
+    b.getParams().put("id", "{result=x:/id}");
+
+    assertRejected(asList(op("a", "/a"), b), "Unknown operation ID(x)");
+  }
+
+  @Test
+  public void testCycle() {
+    BulkOperation a = op("a", "/a/{result=c:/id}");
+    BulkOperation b = op("b", "/b");
+    b.setDependsOn(singletonList("a"));
+    BulkOperation c = op("c", "/c");
+    c.setDependsOn(singletonList("b"));
+
+    assertRejected(asList(op("x", "/x"), a, b, c),
+        "Cyclic operation dependencies");
+  }
+
+  @Test
+  public void testSelfDependency() {
+    BulkOperation a = op("a", "/a");
+    a.setDependsOn(singletonList("a"));
+
+    assertRejected(singletonList(a), "Cyclic operation dependencies");
+  }
+
+  private static BulkOperation op(String id, String url) {
+    BulkOperation op = new BulkOperation();
+    op.setId(id);
+    op.setUrl(url);
+    return op;
+  }
+
+  private static void assertRejected(List<BulkOperation> ops, String error) {
+    try {
+      new BulkOperationGraph(ops);
+      fail();
+    } catch (BulkApiException e) {
+      assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatus());
+      assertTrue(e.getError(), e.getError().startsWith(error));
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BulkResultReferencesTest {
+
+  private final Map<String, ResponseEntity<byte[]>> results = new HashMap<>();
+  private BulkResultReferences references;
+
+  @Before
+  public void setUp() {
+    results.put("user", json("{\"id\":7,\"name\":\"a b\",\"tags\":[\"x\","
+        + "\"y\"],\"address\":{\"city\":\"Taipei\"},\"a/b\":1}"));
+    results.put("text", ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN)
+        .body("not json".getBytes(StandardCharsets.UTF_8)));
+    results.put("empty", ResponseEntity.noContent().build());
+    references = new BulkResultReferences(new ObjectMapper(), results::get);
+  }
+
+  @Test
+  public void testOperationWithoutReferencesIsKept() {
+    BulkOperation op = op("/users/1");
+    assertSame(op, references.resolve(op));
+  }
+
+  @Test
+  public void testReferencesInUrlHeadersAndParams() {
+    BulkOperation op = op("/users/{result=user:/id}/{result=user:/name}");
+    op.getHeaders().put("X-City", "in {result=user:/address/city}");
+    op.getParams().put("id", "{result=user:/id}");
+    op.getParams().put("tags", "{result=user:/tags}");
+    op.getParams().put("first", asList("{result=user:/tags/0}"));
+    op.getParams().put("escaped", "{result=user:/a~1b}");
+
+    BulkOperation resolved = references.resolve(op);
+
+    assertEquals("/users/7/a%20b", resolved.getUrl());
+    assertEquals("in Taipei", resolved.getHeaders().get("X-City"));
+    assertEquals(7, resolved.getParams().get("id"));
+    assertEquals(asList("x", "y"), resolved.getParams().get("tags"));
+    assertEquals(asList("x"), resolved.getParams().get("first"));
+    assertEquals(1, resolved.getParams().get("escaped"));
+  }
+
+  @Test
+  public void testPointerToMissingField() {
+    assertUnresolvable("/users/{result=user:/nope}", "{result=user:/nope}");
+  }
+
+  @Test
+  public void testPointerOutOfArray() {
+    assertUnresolvable("/users/{result=user:/tags/2}", "{result=user:/tags/2}");
+  }
+
+  @Test
+  public void testMalformedPointer() {
+    assertUnresolvable("/users/{result=user:id}", "{result=user:id}");
+  }
+
+  @Test
+  public void testUnknownResult() {
+    assertUnresolvable("/users/{result=other:/id}", "{result=other:/id}");
+  }
+
+  @Test
+  public void testResultWithoutBody() {
+    assertUnresolvable("/users/{result=empty:/id}", "{result=empty:/id}");
+  }
+
+  @Test
+  public void testResultWithNonJsonBody() {
+    assertUnresolvable("/users/{result=text:/id}", "{result=text:/id}");
+  }
+
+  private void assertUnresolvable(String url, String reference) {
+    try {
+      references.resolve(op(url));
+      fail();
+    } catch (BulkApiException e) {
+      assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatus());
+      assertTrue(e.getError(),
+          e.getError().startsWith("Unresolvable reference(" + reference + ")"));
+    }
+  }
+
+  private static BulkOperation op(String url) {
+    BulkOperation op = new BulkOperation();
+    op.setUrl(url);
+    return op;
+  }
+
+  private static ResponseEntity<byte[]> json(String body) {
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8)
+        .body(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
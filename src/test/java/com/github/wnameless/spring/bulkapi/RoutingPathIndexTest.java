@@ -0,0 +1,136 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+public class RoutingPathIndexTest {
+
+  private static final List<String> GET_ROUTES = Arrays.asList("/", "/home",
+      "/home/{id}", "/home/{id}/edit", "/home/*", "/home/**", "/files/**/raw",
+      "/a/*/c", "/a/b?/c", "/x/*.json", "/{a}/{b}", "/home/*/x/*", "/trail/",
+      "/v{version}/api", "a/b", "/**/c");
+  private static final List<String> POST_ROUTES =
+      Arrays.asList("/home", "/home/{id}/edit", "/files/**");
+  private static final List<String> SEGMENTS = Arrays.asList("", "home", "a",
+      "b", "bb", "c", "x.json", "1", "raw", "files", "edit", "x", "v2", "api");
+
+  private List<RoutingPath> routingPaths;
+  private RoutingPathIndex index;
+
+  @Before
+  public void setUp() {
+    routingPaths = new ArrayList<>();
+    for (String route : GET_ROUTES) {
+      routingPaths.add(routingPath(RequestMethod.GET, route));
+    }
+    for (String route : POST_ROUTES) {
+      routingPaths.add(routingPath(RequestMethod.POST, route));
+    }
+    index = new RoutingPathIndex(routingPaths);
+  }
+
+  @Test
+  public void testFindMatchesRegexPathsOfAllRoutes() {
+    for (String path : requestPaths()) {
+      for (RequestMethod method : Arrays.asList(RequestMethod.GET,
+          RequestMethod.POST, RequestMethod.PUT)) {
+        assertSame(method + " " + path, scan(path, method),
+            index.find(path, method));
+      }
+    }
+  }
+
+  @Test
+  public void testExactPathComesFirst() {
+    RoutingPath home = index.find("/home", RequestMethod.GET);
+    assertEquals("/home", home.getPath());
+    assertEquals("/home/{id}",
+        index.find("/home/1", RequestMethod.GET).getPath());
+    assertEquals("/home/**",
+        index.find("/home/1/2/3", RequestMethod.GET).getPath());
+  }
+
+  @Test
+  public void testMethodIsPartOfTheLookup() {
+    assertEquals("/files/**",
+        index.find("/files/a/b", RequestMethod.POST).getPath());
+    assertNull(index.find("/files/a/b", RequestMethod.GET));
+    assertNull(index.find("/home", RequestMethod.DELETE));
+  }
+
+  private static RoutingPath routingPath(RequestMethod method, String path) {
+    return new RoutingPath(method, path, path,
+        Pattern.compile(RoutingPathResolver.computeRegexPath(path)),
+        new Annotation[0], new Annotation[0], new Annotation[0][]);
+  }
+
+  /**
+   * Finds a route as the index is specified to: an exact path first, otherwise
+   * the first route in order whose regex path matches.
+   */
+  private RoutingPath scan(String path, RequestMethod method) {
+    for (RoutingPath routingPath : routingPaths) {
+      if (routingPath.getMethod() == method
+          && routingPath.getPath().equals(path)) {
+        return routingPath;
+      }
+    }
+    for (RoutingPath routingPath : routingPaths) {
+      if (routingPath.getMethod() == method
+          && routingPath.getRegexPath().matcher(path).matches()) {
+        return routingPath;
+      }
+    }
+    return null;
+  }
+
+  private static List<String> requestPaths() {
+    List<String> paths = new ArrayList<>();
+    List<String> bodies = new ArrayList<>(Arrays.asList(""));
+    for (int depth = 0; depth < 3; depth++) {
+      List<String> next = new ArrayList<>();
+      for (String body : bodies) {
+        for (String segment : SEGMENTS) {
+          next.add(body.isEmpty() && depth == 0 ? segment
+              : body + "/" + segment);
+        }
+      }
+      bodies = next;
+      for (String body : bodies) {
+        paths.add(body);
+        paths.add("/" + body);
+        paths.add("/" + body + "/");
+      }
+    }
+    return paths;
+  }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class Utf8BodyTest {
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  @Test
+  public void testValidUtf8() {
+    assertTrue(Utf8Body.isValid(new byte[0]));
+    assertTrue(Utf8Body.isValid(
+        "aé€😀\"\\".getBytes(StandardCharsets.UTF_8)));
+    assertTrue(Utf8Body.isValid(bytes(0xF4, 0x8F, 0xBF, 0xBF)));
+  }
+
+  @Test
+  public void testMalformedUtf8() {
+    // Stray continuation and invalid lead bytes
+    assertFalse(Utf8Body.isValid(bytes(0x80)));
+    assertFalse(Utf8Body.isValid(bytes(0xFF)));
+    // Truncated sequences
+    assertFalse(Utf8Body.isValid(bytes(0xC3)));
+    assertFalse(Utf8Body.isValid(bytes(0xE2, 0x82)));
+    assertFalse(Utf8Body.isValid(bytes(0xC3, 0x28)));
+    // Overlong forms
+    assertFalse(Utf8Body.isValid(bytes(0xC0, 0xAF)));
+    assertFalse(Utf8Body.isValid(bytes(0xE0, 0x80, 0xAF)));
+    // Surrogates and code points above U+10FFFF
+    assertFalse(Utf8Body.isValid(bytes(0xED, 0xA0, 0x80)));
+    assertFalse(Utf8Body.isValid(bytes(0xF4, 0x90, 0x80, 0x80)));
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ *
+ * Operations on routes secured by {@link WebSecurityConfig} must be authorized
+ * by the credentials of the bulk request, whichever way they are dispatched.
+ *
+ */
+public abstract class AbstractBulkApiSecurityTest extends AbstractBulkApiTest {
+
+  private TestRestTemplate authorized() {
+    return restTemplate.withBasicAuth("user", "password");
+  }
+
+  @Test
+  public void testAnonymousOperationOnSecuredRoute() {
+    int securedCount = controller.getSecuredCount();
+
+    ResponseEntity<String> res = bulk("[{'url':'/secured'}]");
+
+    assertEquals(HttpStatus.UNAUTHORIZED, res.getStatusCode());
+    assertEquals(securedCount, controller.getSecuredCount());
+  }
+
+  @Test
+  public void testAuthorizedOperationOnSecuredRoute() throws Exception {
+    JsonNode results = results(bulk(authorized(),
+        "[{'url':'/secured'},{'url':'/secured'},{'url':'/secured'}]",
+        new HttpHeaders()));
+
+    assertEquals(3, results.size());
+    for (JsonNode result : results) {
+      assertEquals(200, result.get("status").asInt());
+      assertEquals("SECRET", result.get("body").asText());
+      assertTrue(result.get("headers").get(HttpHeaders.CACHE_CONTROL).asText()
+          .contains("no-store"));
+    }
+  }
+
+  @Test
+  public void testAuthorizedTimedOperationOnSecuredRoute() throws Exception {
+    JsonNode results = results(bulk(authorized(),
+        "[{'url':'/secured','timeoutMs':5000}]", new HttpHeaders()));
+
+    assertEquals(200, results.get(0).get("status").asInt());
+    assertEquals("SECRET", results.get(0).get("body").asText());
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * Base of the bulk API tests against the test {@link Application}, every
+ * subclass boots it on a random port with its own properties. Operations are
+ * written in JSON with single quotes to keep them readable.
+ *
+ */
+@RunWith(SpringRunner.class)
+public abstract class AbstractBulkApiTest {
+
+  protected static final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Autowired
+  protected TestRestTemplate restTemplate;
+
+  @Autowired
+  protected TestController6 controller;
+
+  @Value("${spring.bulk.api.path}")
+  protected String bulkPath;
+
+  protected ResponseEntity<String> bulk(String operations) {
+    return bulk(restTemplate, operations, new HttpHeaders());
+  }
+
+  protected ResponseEntity<String> bulk(String operations,
+      HttpHeaders headers) {
+    return bulk(restTemplate, operations, headers);
+  }
+
+  protected ResponseEntity<String> bulk(TestRestTemplate template,
+      String operations, HttpHeaders headers) {
+    if (headers.getContentType() == null) {
+      headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+    }
+    String body = "{'operations':" + operations + "}";
+    return template.postForEntity(bulkPath,
+        new HttpEntity<>(body.replace('\'', '"'), headers), String.class);
+  }
+
+  protected static JsonNode results(ResponseEntity<String> res)
+      throws IOException {
+    assertEquals(res.getBody(), HttpStatus.OK, res.getStatusCode());
+    return objectMapper.readTree(res.getBody()).get("results");
+  }
+
+  protected static JsonNode body(JsonNode result) throws IOException {
+    return objectMapper.readTree(result.get("body").asText());
+  }
+
+  protected long createItem(String name) throws IOException {
+    JsonNode results = results(
+        bulk("[{'method':'POST','url':'/items','params':{'name':'" + name
+            + "'}}]"));
+    return body(results.get(0)).get("id").asLong();
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.wnameless.spring.bulkapi.DefaultBulkApiService;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.coalesce=true")
+public class BulkApiCoalescingTest extends AbstractBulkApiTest {
+
+  @Autowired
+  DefaultBulkApiService bulkApiService;
+
+  @Test
+  public void testIdenticalOperationsRunOnce() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getReadCount();
+    long coalescedCount = bulkApiService.getCoalescedCount();
+
+    String op = "{'url':'/items/" + id + "'}";
+    JsonNode results = results(bulk("[" + op + "," + op + "," + op + "]"));
+
+    assertEquals(3, results.size());
+    assertEquals(results.get(0), results.get(1));
+    assertEquals(results.get(0), results.get(2));
+    assertEquals(readCount + 1, controller.getReadCount());
+    assertEquals(coalescedCount + 2, bulkApiService.getCoalescedCount());
+  }
+
+  @Test
+  public void testOperationsDifferentByHeaders() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getReadCount();
+
+    results(bulk("[{'url':'/items/" + id + "'},{'url':'/items/" + id
+        + "','headers':{'X-Tag':'b'}}]"));
+
+    assertEquals(readCount + 2, controller.getReadCount());
+  }
+
+  @Test
+  public void testUnsafeOperationSeparatesIdenticalOperations()
+      throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getReadCount();
+
+    String op = "{'url':'/items/" + id + "'}";
+    JsonNode results = results(bulk("[" + op + ",{'method':'PUT','url':'/items/"
+        + id + "','params':{'name':'b'}}," + op + "]"));
+
+    assertEquals(readCount + 2, controller.getReadCount());
+    assertEquals("a", body(results.get(0)).get("name").asText());
+    assertEquals("b", body(results.get(2)).get("name").asText());
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.github.wnameless.spring.bulkapi.DefaultBulkApiService;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = { "spring.bulk.api.concurrency-limit=true",
+        "spring.bulk.api.concurrency-limit.initial=1",
+        "spring.bulk.api.concurrency-limit.min=1",
+        "spring.bulk.api.concurrency-limit.max=1",
+        "spring.bulk.api.concurrency-limit.retry-after=2" })
+public class BulkApiConcurrencyLimitTest extends AbstractBulkApiTest {
+
+  @Autowired
+  DefaultBulkApiService bulkApiService;
+
+  @Test
+  public void testBulkRequestOverLimit() throws Exception {
+    long rejectionCount = bulkApiService.getConcurrencyLimitRejectionCount();
+    CompletableFuture<ResponseEntity<String>> slow =
+        CompletableFuture.supplyAsync(() -> bulk("[{'url':'/slow/1000'}]"));
+    while (bulkApiService.getConcurrencyInFlight() == 0 && !slow.isDone()) {
+      Thread.sleep(10);
+    }
+
+    ResponseEntity<String> res = bulk("[{'url':'/search'}]");
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, res.getStatusCode());
+    assertEquals("2", res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(rejectionCount + 1,
+        bulkApiService.getConcurrencyLimitRejectionCount());
+
+    assertEquals(HttpStatus.OK, slow.get().getStatusCode());
+    assertEquals(HttpStatus.OK, bulk("[{'url':'/search'}]").getStatusCode());
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT)
+public class BulkApiDeadlineTest extends AbstractBulkApiTest {
+
+  @Test
+  public void testOperationTimeout() throws Exception {
+    JsonNode results = results(bulk("["
+        + "{'url':'/slow/1000','timeoutMs':100,'id':'slow'},"
+        + "{'url':'/search','headers':{'X-Tag':'a'},'dependsOn':['slow']},"
+        + "{'url':'/search','headers':{'X-Tag':'b'}}]"));
+
+    assertEquals(504, results.get(0).get("status").asInt());
+    assertEquals(424, results.get(1).get("status").asInt());
+    assertEquals(200, results.get(2).get("status").asInt());
+  }
+
+  @Test
+  public void testBulkDeadline() throws Exception {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("X-Bulk-Deadline", "100");
+
+    JsonNode results = results(bulk("["
+        + "{'url':'/search','headers':{'X-Tag':'a'}},"
+        + "{'url':'/slow/1000'}]", headers));
+
+    assertEquals(200, results.get(0).get("status").asInt());
+    assertEquals(504, results.get(1).get("status").asInt());
+  }
+
+}
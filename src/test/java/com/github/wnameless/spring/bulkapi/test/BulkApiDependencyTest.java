@@ -0,0 +1,92 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.parallel=true")
+public class BulkApiDependencyTest extends AbstractBulkApiTest {
+
+  @Test
+  public void testResultReferences() throws Exception {
+    JsonNode results = results(bulk("["
+        + "{'url':'/items/{result=post:/id}','id':'get'},"
+        + "{'method':'POST','url':'/items','params':{'name':'a'},'id':'post'},"
+        + "{'url':'/search','headers':{'X-Tag':'{result=get:/name}'}}]"));
+
+    assertEquals(200, results.get(0).get("status").asInt());
+    assertEquals("a", body(results.get(0)).get("name").asText());
+    assertEquals(201, results.get(1).get("status").asInt());
+    assertEquals(body(results.get(1)).get("id"),
+        body(results.get(0)).get("id"));
+    assertEquals("a", body(results.get(2)).get("tag").asText());
+  }
+
+  @Test
+  public void testDependenciesRunInWaves() throws Exception {
+    long id = createItem("a");
+
+    JsonNode results = results(bulk("["
+        + "{'url':'/items/" + id + "','dependsOn':['put']},"
+        + "{'method':'PUT','url':'/items/" + id + "','params':{'name':'b'},'id':'put'}]"));
+
+    assertEquals("b", body(results.get(0)).get("name").asText());
+    assertEquals("b", body(results.get(1)).get("name").asText());
+  }
+
+  @Test
+  public void testCyclicDependencies() {
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY,
+        bulk("[{'url':'/secured','id':'a','dependsOn':['b']},"
+            + "{'url':'/secured','id':'b','dependsOn':['a']}]")
+                .getStatusCode());
+  }
+
+  @Test
+  public void testUnknownDependency() {
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY,
+        bulk("[{'url':'/secured','dependsOn':['nope']}]").getStatusCode());
+  }
+
+  @Test
+  public void testUnresolvableReferenceFailsOnlyItsOperation()
+      throws Exception {
+    JsonNode results = results(bulk("["
+        + "{'method':'POST','url':'/items','params':{'name':'a'},'id':'post'},"
+        + "{'url':'/items/{result=post:/missing}','id':'get'},"
+        + "{'url':'/search','headers':{'X-Tag':'{result=get:/name}'}},"
+        + "{'url':'/search','headers':{'X-Tag':'c'}}]"));
+
+    assertEquals(201, results.get(0).get("status").asInt());
+    assertEquals(422, results.get(1).get("status").asInt());
+    assertEquals(424, results.get(2).get("status").asInt());
+    assertEquals(200, results.get(3).get("status").asInt());
+    assertEquals(200, bulk("[{'url':'/items/"
+        + body(results.get(0)).get("id").asLong() + "'}]").getStatusCodeValue());
+  }
+
+}
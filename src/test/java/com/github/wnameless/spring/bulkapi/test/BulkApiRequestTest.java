@@ -0,0 +1,97 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.limit=3")
+public class BulkApiRequestTest extends AbstractBulkApiTest {
+
+  @Test
+  public void testOperationsOverLimit() {
+    assertEquals(HttpStatus.PAYLOAD_TOO_LARGE,
+        bulk("[{'url':'/secured'},{'url':'/secured'},{'url':'/secured'},"
+            + "{'url':'/secured'}]").getStatusCode());
+  }
+
+  @Test
+  public void testInvalidOperation() {
+    int securedCount = controller.getSecuredCount();
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY,
+        bulk("[{'url':'/secured'},{'url':'/nope'}]").getStatusCode());
+    assertEquals(securedCount, controller.getSecuredCount());
+  }
+
+  @Test
+  public void testMalformedBulkRequest() {
+    assertEquals(HttpStatus.BAD_REQUEST,
+        bulk("{'url':'/search'}").getStatusCode());
+  }
+
+  @Test
+  public void testUnsupportedMediaType() {
+    String body = "{\"operations\":[{\"url\":\"/search\"}]}";
+    for (MediaType mediaType : new MediaType[] { MediaType.TEXT_PLAIN,
+        MediaType.APPLICATION_FORM_URLENCODED }) {
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(mediaType);
+
+      assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, restTemplate
+          .postForEntity(bulkPath, new HttpEntity<>(body, headers),
+              String.class)
+          .getStatusCode());
+    }
+  }
+
+  @Test
+  public void testJsonMediaTypes() throws Exception {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.valueOf("application/vnd.bulk+json"));
+
+    assertEquals(1,
+        results(bulk("[{'url':'/search','headers':{'X-Tag':'a'}}]", headers))
+            .size());
+  }
+
+  @Test
+  public void testIdenticalOperationsAreNotCoalescedByDefault()
+      throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getReadCount();
+
+    JsonNode results = results(
+        bulk("[{'url':'/items/" + id + "'},{'url':'/items/" + id + "'}]"));
+
+    assertEquals(2, results.size());
+    assertEquals(readCount + 2, controller.getReadCount());
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ *
+ * Authorization is left out of the cache key on purpose, so only the user of
+ * the bulk request keeps users apart.
+ *
+ */
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = { "spring.bulk.api.dispatch.mode=in-process",
+        "spring.bulk.api.response-cache.size=100",
+        "spring.bulk.api.response-cache.key-headers=Accept" })
+public class BulkApiResponseCacheSecurityTest extends AbstractBulkApiTest {
+
+  private String me(String user) throws Exception {
+    TestRestTemplate template = restTemplate.withBasicAuth(user, "password");
+    JsonNode result = results(
+        bulk(template, "[{'url':'/secured/me'}]", new HttpHeaders())).get(0);
+    assertEquals(200, result.get("status").asInt());
+    return result.get("body").asText();
+  }
+
+  @Test
+  public void testResponsesAreNotSharedByUsers() throws Exception {
+    int securedCount = controller.getSecuredCount();
+
+    assertEquals("user", me("user"));
+    assertEquals("other", me("other"));
+    assertEquals(securedCount + 2, controller.getSecuredCount());
+
+    assertEquals("user", me("user"));
+    assertEquals("other", me("other"));
+    assertEquals(securedCount + 2, controller.getSecuredCount());
+  }
+
+}
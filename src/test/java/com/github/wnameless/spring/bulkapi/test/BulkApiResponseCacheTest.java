@@ -0,0 +1,107 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = { "spring.bulk.api.response-cache.size=100",
+        "spring.bulk.api.response-cache.ttl=300" })
+public class BulkApiResponseCacheTest extends AbstractBulkApiTest {
+
+  private JsonNode get(String url) throws Exception {
+    JsonNode result = results(bulk("[{'url':'" + url + "'}]")).get(0);
+    assertEquals(200, result.get("status").asInt());
+    return result;
+  }
+
+  @Test
+  public void testMaxAge() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getCachedReadCount();
+
+    JsonNode result = get("/items/" + id + "/cached");
+
+    assertEquals(result, get("/items/" + id + "/cached"));
+    assertEquals(readCount + 1, controller.getCachedReadCount());
+  }
+
+  @Test
+  public void testDefaultTtl() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getCachedReadCount();
+
+    get("/items/" + id + "/public");
+    get("/items/" + id + "/public");
+    assertEquals(readCount + 1, controller.getCachedReadCount());
+
+    Thread.sleep(500);
+    get("/items/" + id + "/public");
+    assertEquals(readCount + 2, controller.getCachedReadCount());
+  }
+
+  @Test
+  public void testUnsafeOperationInvalidatesPathsBelow() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getCachedReadCount();
+    get("/items/" + id + "/cached");
+
+    JsonNode results = results(bulk("[{'method':'PUT','url':'/items/" + id
+        + "','params':{'name':'b'}},{'url':'/items/" + id + "/cached'}]"));
+
+    assertEquals(readCount + 2, controller.getCachedReadCount());
+    assertEquals(results.get(1), get("/items/" + id + "/cached"));
+    assertEquals(readCount + 2, controller.getCachedReadCount());
+  }
+
+  @Test
+  public void testETagRevalidation() throws Exception {
+    long id = createItem("a");
+    int readCount = controller.getEtagReadCount();
+    int notModifiedCount = controller.getNotModifiedCount();
+
+    JsonNode result = get("/items/" + id + "/etag");
+    assertEquals(result.get("body"), get("/items/" + id + "/etag").get("body"));
+
+    assertEquals(readCount + 2, controller.getEtagReadCount());
+    assertEquals(notModifiedCount + 1, controller.getNotModifiedCount());
+  }
+
+  @Test
+  public void testNoStoreResponsesAreNotCached() throws Exception {
+    int securedCount = controller.getSecuredCount();
+
+    for (int i = 0; i < 2; i++) {
+      assertEquals("SECRET",
+          results(bulk(restTemplate.withBasicAuth("user", "password"),
+              "[{'url':'/secured'}]", new HttpHeaders())).get(0).get("body")
+                  .asText());
+    }
+
+    assertEquals(securedCount + 2, controller.getSecuredCount());
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.dispatch.mode=in-process")
+public class BulkApiResultBodyTest extends AbstractBulkApiTest {
+
+  private static final String OPERATIONS =
+      "[{'url':'/binary'},{'url':'/binary/text'},{'url':'/search'}]";
+
+  /**
+   * Sends a bulk request and reads the bulk response as bytes, so malformed
+   * UTF-8 is not replaced before it is parsed.
+   */
+  private byte[] bulkBytes(HttpHeaders headers) {
+    headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+    String body = "{'operations':" + OPERATIONS + "}";
+    ResponseEntity<byte[]> res = restTemplate.postForEntity(bulkPath,
+        new HttpEntity<>(body.replace('\'', '"'), headers), byte[].class);
+    assertEquals(HttpStatus.OK, res.getStatusCode());
+    return res.getBody();
+  }
+
+  private static void assertBodies(JsonNode binary, JsonNode text,
+      JsonNode json) throws Exception {
+    assertEquals(new String(TestController6.BINARY, StandardCharsets.ISO_8859_1),
+        binary.get("body").asText());
+    assertEquals(new String(TestController6.BINARY, StandardCharsets.UTF_8),
+        text.get("body").asText());
+    assertEquals("{\"q\":null,\"tag\":null}", json.get("body").asText());
+  }
+
+  @Test
+  public void testBinaryAndMalformedBodies() throws Exception {
+    JsonNode results =
+        objectMapper.readTree(bulkBytes(new HttpHeaders())).get("results");
+
+    assertBodies(results.get(0), results.get(1), results.get(2));
+  }
+
+  @Test
+  public void testBinaryAndMalformedBodiesOfStreamedResults()
+      throws Exception {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(
+        Collections.singletonList(MediaType.valueOf("application/x-ndjson")));
+    byte[] body = bulkBytes(headers);
+
+    JsonNode[] records = new JsonNode[3];
+    int begin = 0;
+    for (int i = 0; i < records.length; i++) {
+      int end = begin;
+      while (body[end] != '\n') end++;
+      records[i] =
+          objectMapper.readTree(Arrays.copyOfRange(body, begin, end));
+      begin = end + 1;
+    }
+
+    assertBodies(records[0], records[1], records[2]);
+  }
+
+}
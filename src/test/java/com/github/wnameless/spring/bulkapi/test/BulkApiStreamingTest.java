@@ -0,0 +1,113 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT)
+public class BulkApiStreamingTest extends AbstractBulkApiTest {
+
+  private static final MediaType NDJSON =
+      MediaType.valueOf("application/x-ndjson");
+  private static final MediaType JSON_SEQ =
+      MediaType.valueOf("application/json-seq");
+
+  private ResponseEntity<String> stream(MediaType format, String operations) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(Collections.singletonList(format));
+    return bulk(operations, headers);
+  }
+
+  private static List<JsonNode> records(String body, String separator)
+      throws Exception {
+    List<JsonNode> records = new ArrayList<>();
+    for (String record : body.split("\n")) {
+      assertTrue(record.startsWith(separator));
+      records.add(objectMapper.readTree(record.substring(separator.length())));
+    }
+    return records;
+  }
+
+  @Test
+  public void testNdjson() throws Exception {
+    ResponseEntity<String> res = stream(NDJSON,
+        "[{'url':'/search','headers':{'X-Tag':'a'}},"
+            + "{'url':'/search','headers':{'X-Tag':'b'},'silent':true},"
+            + "{'url':'/search','headers':{'X-Tag':'c'}}]");
+
+    assertEquals(HttpStatus.OK, res.getStatusCode());
+    assertTrue(NDJSON.includes(res.getHeaders().getContentType()));
+    List<JsonNode> records = records(res.getBody(), "");
+    assertEquals(2, records.size());
+    assertEquals(0, records.get(0).get("index").asInt());
+    assertEquals(200, records.get(0).get("status").asInt());
+    assertEquals("a", body(records.get(0)).get("tag").asText());
+    assertEquals(2, records.get(1).get("index").asInt());
+    assertEquals("c", body(records.get(1)).get("tag").asText());
+  }
+
+  @Test
+  public void testJsonSeq() throws Exception {
+    ResponseEntity<String> res = stream(JSON_SEQ,
+        "[{'url':'/search','headers':{'X-Tag':'a'}},"
+            + "{'url':'/search','headers':{'X-Tag':'b'}}]");
+
+    assertEquals(HttpStatus.OK, res.getStatusCode());
+    assertTrue(JSON_SEQ.includes(res.getHeaders().getContentType()));
+    List<JsonNode> records = records(res.getBody(), "\u001E");
+    assertEquals(2, records.size());
+    assertEquals("b", body(records.get(1)).get("tag").asText());
+  }
+
+  @Test
+  public void testErrorRecordAfterStreamingStarted() throws Exception {
+    ResponseEntity<String> res = stream(NDJSON,
+        "[{'url':'/search','headers':{'X-Tag':'a'}},{'url':'/items/0'},"
+            + "{'url':'/search','headers':{'X-Tag':'c'}}]");
+
+    assertEquals(HttpStatus.OK, res.getStatusCode());
+    List<JsonNode> records = records(res.getBody(), "");
+    assertEquals(2, records.size());
+    assertEquals(0, records.get(0).get("index").asInt());
+    assertEquals(404, records.get(1).get("error").get("status").asInt());
+  }
+
+  @Test
+  public void testInvalidBulkRequestIsNotStreamed() {
+    ResponseEntity<String> res = stream(NDJSON, "[{'url':'/nope'}]");
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, res.getStatusCode());
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.routes=handler-mapping")
+public class HandlerMappingBulkApiRoutingTest extends AbstractBulkApiTest {
+
+  @Test
+  public void testRoutesOfHandlerMapping() throws Exception {
+    long id = createItem("a");
+
+    JsonNode results = results(bulk("[{'url':'/search/'},{'url':'/items/" + id
+        + "'},{'url':'/items/" + id + "/cached'},{'url':'/home2/AAA/b'}]"));
+
+    assertEquals(4, results.size());
+    assertEquals("a", body(results.get(1)).get("name").asText());
+    assertEquals("YAYA", results.get(3).get("body").asText());
+  }
+
+  @Test
+  public void testNonPublicHandlerMethod() throws Exception {
+    assertEquals(HttpStatus.UNAUTHORIZED,
+        bulk("[{'url':'/home'}]").getStatusCode());
+
+    JsonNode results = results(bulk(
+        restTemplate.withBasicAuth("user", "password"), "[{'url':'/home'}]",
+        new HttpHeaders()));
+    assertEquals("HAHA", results.get(0).get("body").asText());
+  }
+
+  @Test
+  public void testInvalidRoutes() {
+    for (String op : new String[] { "{'url':'/nope'}",
+        "{'url':'/items/1/nope'}", "{'url':'/home2/b/b'}",
+        "{'method':'DELETE','url':'/search'}", "{'url':'/home3'}",
+        "{'url':'/batch'}" }) {
+      assertEquals(op, HttpStatus.UNPROCESSABLE_ENTITY,
+          bulk("[" + op + "]").getStatusCode());
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "spring.bulk.api.dispatch.mode=in-process")
+public class InProcessBulkApiTest extends AbstractBulkApiTest {
+
+  @Test
+  public void testParamsAndHeadersOfGetOperation() throws Exception {
+    JsonNode results = results(bulk(
+        "[{'url':'/search','params':{'q':'café & bar'},'headers':{'X-Tag':'t1'}}]"));
+
+    JsonNode result = results.get(0);
+    assertEquals(200, result.get("status").asInt());
+    assertTrue(result.get("headers").get(HttpHeaders.CONTENT_TYPE).asText()
+        .startsWith("application/json"));
+    assertEquals("café & bar", body(result).get("q").asText());
+    assertEquals("t1", body(result).get("tag").asText());
+  }
+
+  @Test
+  public void testQueryStringOfOperationUrl() throws Exception {
+    JsonNode results = results(
+        bulk("[{'url':'/search?q=a'},{'url':'/search?q=b'}]"));
+
+    assertEquals("a", body(results.get(0)).get("q").asText());
+    assertEquals("b", body(results.get(1)).get("q").asText());
+  }
+
+  @Test
+  public void testInheritedHeaderOfGetOperation() throws Exception {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("X-Tag", "inherited");
+    JsonNode results = results(bulk(
+        "[{'url':'/search','params':{'q':'a'}},"
+            + "{'url':'/search','params':{'q':'b'},'headers':{'X-Tag':'own'}}]",
+        headers));
+
+    assertEquals("inherited", body(results.get(0)).get("tag").asText());
+    assertEquals("own", body(results.get(1)).get("tag").asText());
+  }
+
+  @Test
+  public void testJsonBodyOfPostOperation() throws Exception {
+    JsonNode results = results(bulk(
+        "[{'method':'POST','url':'/items','params':{'name':'über','tags':['a','b']}}]"));
+
+    JsonNode result = results.get(0);
+    assertEquals(201, result.get("status").asInt());
+    JsonNode item = body(result);
+    assertEquals("über", item.get("name").asText());
+    assertEquals(2, item.get("tags").size());
+    assertEquals("/items/" + item.get("id").asLong(),
+        result.get("headers").get(HttpHeaders.LOCATION).asText());
+  }
+
+  @Test
+  public void testRawJsonBody() throws Exception {
+    long id = createItem("raw");
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("X-Bulk-Raw-Json", "true");
+
+    JsonNode results =
+        results(bulk("[{'url':'/items/" + id + "'}]", headers));
+
+    assertEquals("raw", results.get(0).get("body").get("name").asText());
+  }
+
+  @Test
+  public void testClientErrorOfOperation() {
+    assertEquals(HttpStatus.NOT_FOUND,
+        bulk("[{'url':'/items/0'}]").getStatusCode());
+  }
+
+  @Test
+  public void testExceptionEscapingOperation() throws Exception {
+    ResponseEntity<String> res = bulk("[{'url':'/search'},{'url':'/boom'}]");
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, res.getStatusCode());
+  }
+
+}
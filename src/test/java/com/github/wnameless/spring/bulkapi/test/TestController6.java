@@ -0,0 +1,187 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.github.wnameless.spring.bulkapi.Bulkable;
+
+@Bulkable
+@RestController
+public class TestController6 {
+
+  /**
+   * Bytes which are neither ASCII nor valid UTF-8.
+   */
+  public static final byte[] BINARY = { 0x00, (byte) 0xFF, (byte) 0xC3, 0x28,
+      '"', '\\', (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xE2,
+      (byte) 0x82 };
+
+  private final AtomicLong seq = new AtomicLong();
+  private final Map<Long, Map<String, Object>> items =
+      new ConcurrentHashMap<>();
+
+  private final AtomicInteger securedCount = new AtomicInteger();
+  private final AtomicInteger readCount = new AtomicInteger();
+  private final AtomicInteger cachedReadCount = new AtomicInteger();
+  private final AtomicInteger etagReadCount = new AtomicInteger();
+  private final AtomicInteger notModifiedCount = new AtomicInteger();
+
+  @GetMapping("/secured")
+  public String secured() {
+    securedCount.incrementAndGet();
+    return "SECRET";
+  }
+
+  @GetMapping("/secured/me")
+  public ResponseEntity<String> me(Principal principal) {
+    securedCount.incrementAndGet();
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS))
+        .body(principal.getName());
+  }
+
+  @GetMapping("/search")
+  public Map<String, Object> search(
+      @RequestParam(value = "q", required = false) String q,
+      @RequestHeader(value = "X-Tag", required = false) String tag) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("q", q);
+    result.put("tag", tag);
+    return result;
+  }
+
+  @GetMapping("/slow/{ms}")
+  public String slow(@PathVariable("ms") long ms) throws InterruptedException {
+    Thread.sleep(ms);
+    return "SLEPT";
+  }
+
+  @GetMapping(value = "/binary",
+      produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public byte[] binary() {
+    return BINARY.clone();
+  }
+
+  @GetMapping(value = "/binary/text", produces = "text/plain;charset=UTF-8")
+  public byte[] malformedText() {
+    return BINARY.clone();
+  }
+
+  @GetMapping("/boom")
+  public String boom() {
+    throw new IllegalStateException("BOOM");
+  }
+
+  @PostMapping("/items")
+  public ResponseEntity<Map<String, Object>> create(
+      @RequestBody Map<String, Object> body) {
+    long id = seq.incrementAndGet();
+    Map<String, Object> item = new LinkedHashMap<>(body);
+    item.put("id", id);
+    items.put(id, item);
+    return ResponseEntity.created(URI.create("/items/" + id)).body(item);
+  }
+
+  @GetMapping("/items/{id}")
+  public ResponseEntity<Map<String, Object>> read(
+      @PathVariable("id") long id) {
+    readCount.incrementAndGet();
+    Map<String, Object> item = items.get(id);
+    return item == null ? ResponseEntity.notFound().build()
+        : ResponseEntity.ok(item);
+  }
+
+  @PutMapping("/items/{id}")
+  public ResponseEntity<Map<String, Object>> update(@PathVariable("id") long id,
+      @RequestBody Map<String, Object> body) {
+    Map<String, Object> item = new LinkedHashMap<>(body);
+    item.put("id", id);
+    items.put(id, item);
+    return ResponseEntity.ok(item);
+  }
+
+  @GetMapping("/items/{id}/cached")
+  public ResponseEntity<String> cached(@PathVariable("id") long id) {
+    cachedReadCount.incrementAndGet();
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS))
+        .body(String.valueOf(items.get(id)));
+  }
+
+  @GetMapping("/items/{id}/public")
+  public ResponseEntity<String> cachedByTtl(@PathVariable("id") long id) {
+    cachedReadCount.incrementAndGet();
+    return ResponseEntity.ok().cacheControl(CacheControl.empty().cachePublic())
+        .body(String.valueOf(items.get(id)));
+  }
+
+  @GetMapping("/items/{id}/etag")
+  public ResponseEntity<String> etag(@PathVariable("id") long id,
+      WebRequest webRequest) {
+    etagReadCount.incrementAndGet();
+    String etag = "\"" + String.valueOf(items.get(id)).hashCode() + "\"";
+    if (webRequest.checkNotModified(etag)) {
+      notModifiedCount.incrementAndGet();
+      return null;
+    }
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+        .body(String.valueOf(items.get(id)));
+  }
+
+  public int getSecuredCount() {
+    return securedCount.get();
+  }
+
+  public int getReadCount() {
+    return readCount.get();
+  }
+
+  public int getCachedReadCount() {
+    return cachedReadCount.get();
+  }
+
+  public int getEtagReadCount() {
+    return etagReadCount.get();
+  }
+
+  public int getNotModifiedCount() {
+    return notModifiedCount.get();
+  }
+
+}
@@ -35,8 +35,9 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
   @Override
   protected void configure(HttpSecurity http) throws Exception {
     http.csrf().disable();
-    http.authorizeRequests().antMatchers("/home").hasRole("USER").and()
-        .httpBasic();
+    http.authorizeRequests().antMatchers("/home", "/secured/**")
+        .hasRole("USER")
+        .and().httpBasic();
     http.authorizeRequests().antMatchers(bulkPath).permitAll();
   }
 
@@ -45,6 +46,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
       throws Exception {
     // For Spring Security 5, password with no encoder
     auth.inMemoryAuthentication().withUser("user").password("{noop}password")
+        .roles("USER").and().withUser("other").password("{noop}password")
         .roles("USER");
   }
 
@@ -0,0 +1,272 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test.load;
+
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_MODE_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_DISPATCH_MODE_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_DEFAULT;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PARALLEL_THREADS_KEY;
+import static com.github.wnameless.spring.bulkapi.BulkApiConfig.BULK_API_PATH_KEY;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.wnameless.spring.bulkapi.BulkResponse;
+import com.github.wnameless.spring.bulkapi.BulkResult;
+import com.github.wnameless.spring.bulkapi.test.Application;
+
+/**
+ *
+ * Drives concurrent bulk requests against the test {@link Application} and
+ * reports the throughput and the latency percentiles of whole bulk requests.
+ * It only runs under the load-test profile, configured by system properties:
+ *
+ * <pre>
+ * mvn test -Pload-test -Dbulk.load.concurrency=32 -Dbulk.load.bulk-size=50 \
+ *     -Dspring.bulk.api.parallel=true -Dspring.bulk.api.dispatch.mode=loopback
+ * </pre>
+ *
+ * Each client sends its next bulk as soon as the previous one returns, so the
+ * latencies are of a closed system at the given concurrency. The latency
+ * histogram of each run is written into target/load-test/&lt;label&gt;.hgrm
+ * and a summary line is appended to target/load-test/summary.csv.
+ *
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Application.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT)
+public class BulkLoadTest {
+
+  @LocalServerPort
+  int port;
+
+  @Autowired
+  Environment env;
+
+  @Value("${" + BULK_API_PATH_KEY + "}")
+  String bulkPath;
+
+  @Value("${bulk.load.concurrency:16}")
+  int concurrency;
+
+  @Value("${bulk.load.bulk-size:20}")
+  int bulkSize;
+
+  @Value("${bulk.load.read-ratio:0.8}")
+  double readRatio;
+
+  @Value("${bulk.load.warm-up-seconds:5}")
+  int warmUpSeconds;
+
+  @Value("${bulk.load.duration-seconds:30}")
+  int durationSeconds;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Recorder recorder = new Recorder(3);
+  private final LongAdder bulks = new LongAdder();
+  private final LongAdder operations = new LongAdder();
+  private final LongAdder failedBulks = new LongAdder();
+  private final LongAdder failedOperations = new LongAdder();
+  private volatile boolean running = true;
+
+  @Test
+  public void load() throws Exception {
+    String label = env.getProperty("bulk.load.label", defaultLabel());
+    String url = "http://localhost:" + port + bulkPath;
+
+    ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    try (CloseableHttpClient httpClient =
+        HttpClients.custom().setMaxConnTotal(concurrency)
+            .setMaxConnPerRoute(concurrency).build()) {
+      RestTemplate restTemplate = new RestTemplate(
+          new HttpComponentsClientHttpRequestFactory(httpClient));
+
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(clients.submit(() -> {
+          while (running) {
+            send(restTemplate, url);
+          }
+          return null;
+        }));
+      }
+
+      TimeUnit.SECONDS.sleep(warmUpSeconds);
+      recorder.reset();
+      bulks.reset();
+      operations.reset();
+      failedBulks.reset();
+      failedOperations.reset();
+      long start = System.nanoTime();
+
+      TimeUnit.SECONDS.sleep(durationSeconds);
+      Histogram histogram = recorder.getIntervalHistogram();
+      double seconds = (System.nanoTime() - start) / 1e9;
+      long bulkCount = bulks.sum();
+      long opCount = operations.sum();
+      long failedBulkCount = failedBulks.sum();
+      long failedOpCount = failedOperations.sum();
+
+      running = false;
+      for (Future<?> future : futures) {
+        future.get();
+      }
+
+      report(label, histogram, seconds, bulkCount, opCount, failedBulkCount,
+          failedOpCount);
+      assertTrue("No bulk request succeeded", bulkCount > 0);
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private String defaultLabel() {
+    String label = env.getProperty(BULK_API_DISPATCH_MODE_KEY,
+        BULK_API_DISPATCH_MODE_DEFAULT);
+    if (env.getProperty(BULK_API_PARALLEL_KEY, Boolean.class, false)) {
+      label += "-parallel-" + env.getProperty(BULK_API_PARALLEL_THREADS_KEY,
+          BULK_API_PARALLEL_THREADS_DEFAULT);
+    } else {
+      label += "-sequential";
+    }
+    return label + "-c" + concurrency + "-b" + bulkSize;
+  }
+
+  private void send(RestTemplate restTemplate, String url) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    HttpEntity<String> entity = new HttpEntity<>(bulkBody(), headers);
+
+    long start = System.nanoTime();
+    String body;
+    try {
+      body = restTemplate.postForObject(url, entity, String.class);
+    } catch (RestClientException e) {
+      failedBulks.increment();
+      return;
+    }
+    recorder.recordValue((System.nanoTime() - start) / 1000);
+
+    bulks.increment();
+    operations.add(bulkSize);
+    try {
+      for (BulkResult result : mapper.readValue(body, BulkResponse.class)
+          .getResults()) {
+        if (result.getStatus() >= 400) failedOperations.increment();
+      }
+    } catch (IOException e) {
+      failedBulks.increment();
+    }
+  }
+
+  /**
+   * Builds a bulk of reads and writes in the configured mix, reads of random
+   * items keep the coalescing of identical operations out of the way.
+   */
+  private String bulkBody() {
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
+    StringBuilder sb = new StringBuilder("{\"operations\":[");
+    for (int i = 0; i < bulkSize; i++) {
+      if (i > 0) sb.append(',');
+      if (rand.nextDouble() < readRatio) {
+        sb.append("{\"url\":\"/load/items/").append(rand.nextInt(1000000))
+            .append("\"}");
+      } else {
+        sb.append("{\"url\":\"/load/items\",\"method\":\"POST\",")
+            .append("\"params\":{\"name\":\"item").append(i).append("\"}}");
+      }
+    }
+    return sb.append("]}").toString();
+  }
+
+  private void report(String label, Histogram histogram, double seconds,
+      long bulkCount, long opCount, long failedBulkCount, long failedOpCount)
+      throws IOException {
+    String summary = String.format(
+        "%s,%d,%d,%.2f,%.1f,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d", label,
+        concurrency, bulkSize, readRatio, bulkCount / seconds,
+        opCount / seconds, histogram.getValueAtPercentile(50) / 1000.0,
+        histogram.getValueAtPercentile(90) / 1000.0,
+        histogram.getValueAtPercentile(99) / 1000.0,
+        histogram.getValueAtPercentile(99.9) / 1000.0,
+        histogram.getMaxValue() / 1000.0, failedBulkCount, failedOpCount);
+
+    System.out.println("Bulk load test " + label + ": "
+        + String.format("%.1f bulks/s, %.1f operations/s, "
+            + "p50 %.3f ms, p99 %.3f ms, p999 %.3f ms, "
+            + "%d failed bulks, %d failed operations",
+            bulkCount / seconds, opCount / seconds,
+            histogram.getValueAtPercentile(50) / 1000.0,
+            histogram.getValueAtPercentile(99) / 1000.0,
+            histogram.getValueAtPercentile(99.9) / 1000.0, failedBulkCount,
+            failedOpCount));
+    // Percentiles are recorded in microseconds and output in milliseconds
+    histogram.outputPercentileDistribution(System.out, 1000.0);
+
+    File dir = new File("target/load-test");
+    dir.mkdirs();
+    try (PrintStream out =
+        new PrintStream(new FileOutputStream(new File(dir, label + ".hgrm")))) {
+      histogram.outputPercentileDistribution(out, 1000.0);
+    }
+    File csv = new File(dir, "summary.csv");
+    boolean header = !csv.exists();
+    try (PrintStream out = new PrintStream(new FileOutputStream(csv, true))) {
+      if (header) {
+        out.println("label,concurrency,bulkSize,readRatio,bulksPerSecond,"
+            + "operationsPerSecond,p50Ms,p90Ms,p99Ms,p999Ms,maxMs,failedBulks,"
+            + "failedOperations");
+      }
+      out.println(summary);
+    }
+  }
+
+}
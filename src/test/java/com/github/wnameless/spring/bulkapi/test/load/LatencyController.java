@@ -0,0 +1,81 @@
+/*
+ *
+ * Copyright 2026 Wei-Ming Wu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ */
+package com.github.wnameless.spring.bulkapi.test.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.wnameless.spring.bulkapi.Bulkable;
+
+/**
+ *
+ * Stand-in endpoints of the load test, which sleep for a configured latency
+ * plus a random jitter to imitate a downstream database or service.
+ *
+ */
+@Bulkable
+@RestController
+public class LatencyController {
+
+  private final AtomicLong seq = new AtomicLong();
+
+  @Value("${bulk.load.read-latency-ms:5}")
+  long readLatencyMs;
+
+  @Value("${bulk.load.write-latency-ms:20}")
+  long writeLatencyMs;
+
+  @Value("${bulk.load.jitter-ms:5}")
+  long jitterMs;
+
+  @GetMapping("/load/items/{id}")
+  public Map<String, Object> read(@PathVariable("id") String id)
+      throws InterruptedException {
+    sleep(readLatencyMs);
+
+    Map<String, Object> item = new LinkedHashMap<>();
+    item.put("id", id);
+    return item;
+  }
+
+  @PostMapping("/load/items")
+  public Map<String, Object> write(@RequestBody Map<String, Object> body)
+      throws InterruptedException {
+    sleep(writeLatencyMs);
+
+    Map<String, Object> item = new LinkedHashMap<>(body);
+    item.put("id", seq.incrementAndGet());
+    return item;
+  }
+
+  private void sleep(long latencyMs) throws InterruptedException {
+    long ms = latencyMs
+        + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0);
+    if (ms > 0) Thread.sleep(ms);
+  }
+
+}